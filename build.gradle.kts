@@ -47,6 +47,7 @@ val fabric_version: String by project
 val fabric_asm_version: String by project
 val toml4j_version: String by project
 val jankson_version: String by project
+val jmh_version: String by project
 
 val modmenu_version: String by project
 val cloth_config_version: String by project
@@ -82,6 +83,11 @@ val testmod by sourceSets.registering {
     compileClasspath += sourceSets.main.get().compileClasspath
 }
 
+val jmh by sourceSets.registering {
+    runtimeClasspath += sourceSets.main.get().runtimeClasspath
+    compileClasspath += sourceSets.main.get().compileClasspath
+}
+
 loom {
     runtimeOnlyLog4j.set(true)
 
@@ -248,6 +254,11 @@ dependencies {
 
     "testmodImplementation"(sourceSets.main.get().output)
 
+    // JMH
+    "jmhImplementation"(sourceSets.main.get().output)
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${jmh_version}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${jmh_version}")
+
     // only affects runClient, does not affect gradlew build. add -PuseThirdPartyMods=false to not use these
     if (findProperty("useThirdPartyMods") != "false") {
         modRuntimeOnly("maven.modrinth:ferrite-core:${ferritecore_version}")
@@ -296,6 +307,25 @@ tasks {
         useJUnitPlatform()
     }
 
+    // runs every benchmark, or only those matching -PjmhInclude=<regex>
+    register("jmh", JavaExec::class) {
+        group = "verification"
+        description = "Runs the JMH benchmarks and writes the results to build/reports/jmh/results.json"
+
+        val results = layout.buildDirectory.file("reports/jmh/results.json")
+        outputs.file(results)
+        outputs.upToDateWhen { false }
+
+        classpath = jmh.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+        findProperty("jmhInclude")?.let { args(it.toString()) }
+
+        doFirst {
+            results.get().asFile.parentFile.mkdirs()
+        }
+    }
+
     license {
         rule(file("codeformat/QUILT_MODIFIED_HEADER"))
         rule(file("codeformat/HEADER"))
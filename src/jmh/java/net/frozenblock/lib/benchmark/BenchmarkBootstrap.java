@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.benchmark;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.loader.impl.launch.knot.Knot;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Sets up everything the benchmarks need once per forked JVM.
+ */
+public final class BenchmarkBootstrap {
+
+	/**
+	 * The seed every benchmark uses, so runs stay comparable.
+	 */
+	public static final long SEED = 8675309L;
+
+	private static boolean initialized;
+
+	private BenchmarkBootstrap() {
+		throw new UnsupportedOperationException("BenchmarkBootstrap contains only static declarations.");
+	}
+
+	public static synchronized void init() {
+		if (initialized) {
+			return;
+		}
+		initialized = true;
+		// the same as fabric-loader-junit does for tests, so FabricLoader.getInstance() works outside the game
+		new Knot(EnvType.CLIENT).init(new String[0]);
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.lib.math.api.EasyNoiseSampler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.synth.ImprovedNoise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link EasyNoiseSampler}, which noise path features sample for every block they check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EasyNoiseSamplerBenchmark {
+	private static final int POSITIONS = 1024;
+
+	@Param({"false", "true"})
+	public boolean useY;
+
+	private final BlockPos[] positions = new BlockPos[POSITIONS];
+	private ImprovedNoise sampler;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.init();
+		this.sampler = EasyNoiseSampler.getSampler(BenchmarkBootstrap.SEED, EasyNoiseSampler.NoiseType.XORO);
+		RandomSource random = RandomSource.create(BenchmarkBootstrap.SEED);
+		for (int i = 0; i < POSITIONS; i++) {
+			this.positions[i] = new BlockPos(random.nextInt(60000) - 30000, random.nextInt(384) - 64, random.nextInt(60000) - 30000);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(POSITIONS)
+	public void sample(Blackhole blackhole) {
+		for (BlockPos pos : this.positions) {
+			blackhole.consume(EasyNoiseSampler.sample(this.sampler, pos, 0.0725D, false, this.useY));
+		}
+	}
+
+	/**
+	 * Looks the sampler up for every position, as features do once per placement.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(POSITIONS)
+	public void getSamplerAndSample(Blackhole blackhole) {
+		for (BlockPos pos : this.positions) {
+			ImprovedNoise sampler = EasyNoiseSampler.getSampler(BenchmarkBootstrap.SEED, EasyNoiseSampler.NoiseType.XORO);
+			blackhole.consume(EasyNoiseSampler.sample(sampler, pos, 0.0725D, false, this.useY));
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.lib.worldgen.feature.api.features.FadingDiskFeature;
+import net.frozenblock.lib.worldgen.feature.api.features.NoisePathFeature;
+import net.frozenblock.lib.worldgen.feature.api.features.config.FadingDiskFeatureConfig;
+import net.frozenblock.lib.worldgen.feature.api.features.config.PathFeatureConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderSet;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.valueproviders.ConstantInt;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.level.levelgen.feature.stateproviders.BlockStateProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures placing a fading disk and a noise path on a {@link StubWorldGenLevel}.
+ * <p>
+ * Both features replace grass with grass, so the level is the same before every placement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeaturePlacementBenchmark {
+	private static final int SURFACE_Y = 64;
+
+	@Param({"8", "24"})
+	public int radius;
+
+	private final RandomSource random = RandomSource.create(BenchmarkBootstrap.SEED);
+	private final BlockPos origin = new BlockPos(8, SURFACE_Y, 8);
+	private WorldGenLevel level;
+	private FadingDiskFeature fadingDisk;
+	private FadingDiskFeatureConfig fadingDiskConfig;
+	private NoisePathFeature noisePath;
+	private PathFeatureConfig noisePathConfig;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.init();
+		// reaches two chunks out from the origin's chunk, enough for the largest radius and the blocks around it
+		this.level = StubWorldGenLevel.create(2, SURFACE_Y, Blocks.GRASS_BLOCK.defaultBlockState(), this.random, BenchmarkBootstrap.SEED);
+		HolderSet<Block> replaceable = HolderSet.direct(Block::builtInRegistryHolder, Blocks.GRASS_BLOCK);
+		BlockStateProvider grass = BlockStateProvider.simple(Blocks.GRASS_BLOCK);
+
+		this.fadingDisk = new FadingDiskFeature(FadingDiskFeatureConfig.CODEC);
+		this.fadingDiskConfig = new FadingDiskFeatureConfig(false, grass, grass, ConstantInt.of(this.radius), 0.9F, 0.75F, 0.5F, 0.7F, replaceable, replaceable, Heightmap.Types.OCEAN_FLOOR_WG);
+
+		this.noisePath = new NoisePathFeature(PathFeatureConfig.CODEC);
+		this.noisePathConfig = new PathFeatureConfig(grass, this.radius, 4, 0.1D, -0.2D, 0.3D, false, false, false, true, replaceable);
+	}
+
+	@Benchmark
+	public boolean fadingDisk() {
+		this.random.setSeed(BenchmarkBootstrap.SEED);
+		return this.fadingDisk.place(new FeaturePlaceContext<>(Optional.empty(), this.level, null, this.random, this.origin, this.fadingDiskConfig));
+	}
+
+	@Benchmark
+	public boolean noisePath() {
+		this.random.setSeed(BenchmarkBootstrap.SEED);
+		return this.noisePath.place(new FeaturePlaceContext<>(Optional.empty(), this.level, null, this.random, this.origin, this.noisePathConfig));
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.benchmark;
+
+import com.google.gson.GsonBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.frozenblock.lib.config.api.instance.json.JsonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading and saving a {@link JsonConfig} from a temporary directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonConfigBenchmark {
+
+	@Param({"false", "true"})
+	public boolean json5;
+
+	private Path directory;
+	private JsonConfig<BenchmarkConfig> config;
+
+	@Setup
+	public void setup() throws IOException {
+		BenchmarkBootstrap.init();
+		this.directory = Files.createTempDirectory("frozenlib-benchmark");
+		Path path = this.directory.resolve("benchmark." + (this.json5 ? JsonConfig.JANKSON_EXTENSION : JsonConfig.GSON_EXTENSION));
+		this.config = new JsonConfig<>("frozenlib_benchmark", BenchmarkConfig.class, path, this.json5, new GsonBuilder());
+		// the initial load writes the defaults, so load always reads a complete file
+		this.config.startLoading(Runnable::run).join();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(this.directory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Benchmark
+	public boolean load() {
+		return this.config.load();
+	}
+
+	/**
+	 * Saves unchanged content, which is skipped once it has been serialized and hashed.
+	 */
+	@Benchmark
+	public BenchmarkConfig save() {
+		this.config.save();
+		return this.config.config();
+	}
+
+	public static class BenchmarkConfig {
+		public boolean enabled = true;
+		public int count = 64;
+		public double chance = 0.25D;
+		public String name = "frozenlib";
+		public List<String> entries = new ArrayList<>();
+		public Category category = new Category();
+
+		public BenchmarkConfig() {
+			for (int i = 0; i < 64; i++) {
+				this.entries.add("minecraft:entry_" + i);
+			}
+		}
+
+		public static class Category {
+			public boolean nestedEnabled = false;
+			public int nestedCount = 16;
+			public float nestedChance = 0.5F;
+		}
+	}
+}
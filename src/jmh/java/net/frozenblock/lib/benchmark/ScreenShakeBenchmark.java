@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.lib.screenshake.api.ScreenShakeManager;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sun.misc.Unsafe;
+
+/**
+ * Measures {@link ScreenShakeManager#tick()} with a number of active shakes spread over loaded chunks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScreenShakeBenchmark {
+
+	@Param({"16", "256", "4096"})
+	public int shakes;
+
+	private ScreenShakeManager manager;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.init();
+		this.manager = new ScreenShakeManager(createStubLevel());
+		RandomSource random = RandomSource.create(BenchmarkBootstrap.SEED);
+		for (int i = 0; i < this.shakes; i++) {
+			Vec3 pos = new Vec3(random.nextInt(2048) - 1024, 64, random.nextInt(2048) - 1024);
+			// the shakes never finish, so every tick does the same work
+			this.manager.addShake(1F, Integer.MAX_VALUE, Integer.MAX_VALUE, pos, 16F, 0);
+		}
+	}
+
+	@Benchmark
+	public void tick() {
+		this.manager.tick();
+	}
+
+	/**
+	 * Creates a level without running any constructors, in which every chunk is loaded and watched by nobody, as there is no
+	 * server to ask. Only what {@link ScreenShakeManager} reads from its level is set.
+	 */
+	private static ServerLevel createStubLevel() {
+		try {
+			Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+			unsafeField.setAccessible(true);
+			Unsafe unsafe = (Unsafe) unsafeField.get(null);
+
+			ChunkMap chunkMap = (ChunkMap) unsafe.allocateInstance(UnwatchedChunkMap.class);
+			ServerChunkCache chunkSource = (ServerChunkCache) unsafe.allocateInstance(LoadedChunkCache.class);
+			unsafe.putObject(chunkSource, unsafe.objectFieldOffset(ServerChunkCache.class.getDeclaredField("chunkMap")), chunkMap);
+			ServerLevel level = (ServerLevel) unsafe.allocateInstance(ServerLevel.class);
+			unsafe.putObject(level, unsafe.objectFieldOffset(ServerLevel.class.getDeclaredField("chunkSource")), chunkSource);
+			return level;
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Couldn't create a stub level", e);
+		}
+	}
+
+	@SuppressWarnings("DataFlowIssue")
+	private static class LoadedChunkCache extends ServerChunkCache {
+		private LoadedChunkCache() {
+			// never called, instances are allocated without running constructors
+			super(null, null, null, null, null, null, 0, 0, false, null, null, null);
+		}
+
+		@Override
+		public boolean hasChunk(int x, int z) {
+			return true;
+		}
+	}
+
+	@SuppressWarnings("DataFlowIssue")
+	private static class UnwatchedChunkMap extends ChunkMap {
+		private UnwatchedChunkMap() {
+			// never called, instances are allocated without running constructors
+			super(null, null, null, null, null, null, null, null, null, null, null, 0, false);
+		}
+
+		@Override
+		public List<ServerPlayer> getPlayers(ChunkPos chunkPos, boolean boundaryOnly) {
+			return List.of();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.lib.sound.api.block_sound_group.BlockSoundGroupOverwrites;
+import net.frozenblock.lib.sound.impl.block_sound_group.BlockSoundGroupManager;
+import net.minecraft.core.Registry;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.InactiveProfiler;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.state.BlockState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the block sound overwrite lookup done by {@code BlockMixin} whenever a block's {@link SoundType} is requested.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SoundOverwriteBenchmark {
+	private static final int STATES = 1024;
+
+	/**
+	 * How many blocks have an overwrite, picked from the block registry in order.
+	 */
+	@Param({"16", "256"})
+	public int overwrittenBlocks;
+
+	private BlockState[] states;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.init();
+		List<Block> blocks = new ArrayList<>();
+		for (Block block : Registry.BLOCK) {
+			blocks.add(block);
+		}
+		for (int i = 0; i < this.overwrittenBlocks; i++) {
+			BlockSoundGroupOverwrites.addBlock(blocks.get(i), SoundType.WOOL, () -> true);
+		}
+		BlockSoundGroupManager manager = BlockSoundGroupManager.INSTANCE;
+		manager.apply(new BlockSoundGroupManager.SoundGroupLoader(ResourceManager.Empty.INSTANCE, InactiveProfiler.INSTANCE), ResourceManager.Empty.INSTANCE, InactiveProfiler.INSTANCE, Runnable::run).join();
+
+		// half of the looked up states have an overwrite
+		RandomSource random = RandomSource.create(BenchmarkBootstrap.SEED);
+		this.states = new BlockState[STATES];
+		for (int i = 0; i < STATES; i++) {
+			int index = i % 2 == 0 ? random.nextInt(this.overwrittenBlocks) : this.overwrittenBlocks + random.nextInt(blocks.size() - this.overwrittenBlocks);
+			this.states[i] = blocks.get(index).defaultBlockState();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STATES)
+	public void vanillaSoundType(Blackhole blackhole) {
+		for (BlockState state : this.states) {
+			blackhole.consume(state.getSoundType());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STATES)
+	public void overwrittenSoundType(Blackhole blackhole) {
+		for (BlockState state : this.states) {
+			SoundType overwrite = BlockSoundGroupOverwrites.getSoundType(state.getBlock());
+			blackhole.consume(overwrite != null ? overwrite : state.getSoundType());
+		}
+	}
+}
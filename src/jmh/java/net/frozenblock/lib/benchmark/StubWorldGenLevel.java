@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.EnumSet;
+import java.util.function.Predicate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.data.BuiltinRegistries;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+/**
+ * A {@link WorldGenLevel} made of flat {@link ProtoChunk}s, supporting only what features use while placing.
+ * <p>
+ * Every chunk is stone up to the surface, which is a single layer of the surface block, with air above.
+ */
+public final class StubWorldGenLevel implements InvocationHandler {
+	public static final int MIN_Y = -64;
+	public static final int HEIGHT = 384;
+
+	private final Long2ObjectOpenHashMap<ProtoChunk> chunks = new Long2ObjectOpenHashMap<>();
+	private final RandomSource random;
+	private final long seed;
+
+	private StubWorldGenLevel(int chunkRadius, int surfaceY, BlockState surface, RandomSource random, long seed) {
+		this.random = random;
+		this.seed = seed;
+		LevelHeightAccessor heightAccessor = LevelHeightAccessor.create(MIN_Y, HEIGHT);
+		for (int chunkX = -chunkRadius; chunkX <= chunkRadius; chunkX++) {
+			for (int chunkZ = -chunkRadius; chunkZ <= chunkRadius; chunkZ++) {
+				ChunkPos chunkPos = new ChunkPos(chunkX, chunkZ);
+				ProtoChunk chunk = new ProtoChunk(chunkPos, UpgradeData.EMPTY, heightAccessor, BuiltinRegistries.BIOME, null);
+				for (int y = MIN_Y; y <= surfaceY; y++) {
+					LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+					BlockState state = y == surfaceY ? surface : Blocks.STONE.defaultBlockState();
+					for (int x = 0; x < 16; x++) {
+						for (int z = 0; z < 16; z++) {
+							section.setBlockState(x, y & 15, z, state, false);
+						}
+					}
+				}
+				Heightmap.primeHeightmaps(chunk, EnumSet.allOf(Heightmap.Types.class));
+				this.chunks.put(chunkPos.toLong(), chunk);
+			}
+		}
+	}
+
+	/**
+	 * @param chunkRadius	How many chunks the level reaches out from chunk 0, 0 on each axis.
+	 * @param random		The random returned by {@link WorldGenLevel#getRandom()}, which the caller can reseed between runs.
+	 */
+	public static WorldGenLevel create(int chunkRadius, int surfaceY, BlockState surface, RandomSource random, long seed) {
+		StubWorldGenLevel handler = new StubWorldGenLevel(chunkRadius, surfaceY, surface, random, seed);
+		return (WorldGenLevel) Proxy.newProxyInstance(WorldGenLevel.class.getClassLoader(), new Class<?>[]{WorldGenLevel.class}, handler);
+	}
+
+	private ProtoChunk getChunk(int chunkX, int chunkZ) {
+		ProtoChunk chunk = this.chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+		if (chunk == null) {
+			throw new IllegalStateException("Chunk " + chunkX + ", " + chunkZ + " is outside the stub level");
+		}
+		return chunk;
+	}
+
+	private BlockState getBlockState(BlockPos pos) {
+		ProtoChunk chunk = this.chunks.get(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())));
+		return chunk != null ? chunk.getBlockState(pos) : Blocks.AIR.defaultBlockState();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		int argCount = args == null ? 0 : args.length;
+		switch (method.getName()) {
+			case "getChunk" -> {
+				if (argCount >= 2 && args[0] instanceof Integer chunkX && args[1] instanceof Integer chunkZ) {
+					return this.getChunk(chunkX, chunkZ);
+				}
+				if (argCount == 1 && args[0] instanceof BlockPos pos) {
+					return this.getChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+				}
+			}
+			case "getBlockState" -> {
+				return this.getBlockState((BlockPos) args[0]);
+			}
+			case "getFluidState" -> {
+				return this.getBlockState((BlockPos) args[0]).getFluidState();
+			}
+			case "isStateAtPosition" -> {
+				return ((Predicate<BlockState>) args[1]).test(this.getBlockState((BlockPos) args[0]));
+			}
+			case "setBlock" -> {
+				BlockPos pos = (BlockPos) args[0];
+				this.getChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())).setBlockState(pos, (BlockState) args[1], false);
+				return true;
+			}
+			case "getHeight" -> {
+				if (argCount == 0) {
+					return HEIGHT;
+				}
+				if (argCount == 3) {
+					int x = (Integer) args[1];
+					int z = (Integer) args[2];
+					return this.getChunk(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z)).getHeight((Heightmap.Types) args[0], x & 15, z & 15) + 1;
+				}
+			}
+			case "getMinBuildHeight" -> {
+				return MIN_Y;
+			}
+			case "getRandom" -> {
+				return this.random;
+			}
+			case "getSeed" -> {
+				return this.seed;
+			}
+			case "ensureCanWrite" -> {
+				return true;
+			}
+			case "hashCode" -> {
+				return System.identityHashCode(proxy);
+			}
+			case "equals" -> {
+				return proxy == args[0];
+			}
+			case "toString" -> {
+				return "StubWorldGenLevel";
+			}
+			default -> {
+			}
+		}
+		if (method.isDefault()) {
+			return InvocationHandler.invokeDefault(proxy, method, args);
+		}
+		throw new UnsupportedOperationException("The stub level does not support " + method);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.benchmark;
+
+import com.mojang.math.Vector3d;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.lib.wind.api.ClientWindManager;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.synth.ImprovedNoise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures 3D wind sampling, which particles and blocks do for every position they look up wind at.
+ * <p>
+ * {@link ClientWindManager} is used as it doesn't need a level, and samples the same way as {@code WindManager}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WindBenchmark {
+	private static final int POSITIONS = 1024;
+	private static final double STRETCH = 0.25D;
+
+	private final double[] x = new double[POSITIONS];
+	private final double[] y = new double[POSITIONS];
+	private final double[] z = new double[POSITIONS];
+	private final Vector3d output = new Vector3d(0, 0, 0);
+	private ImprovedNoise noise;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.init();
+		ClientWindManager.setSeed(BenchmarkBootstrap.SEED);
+		ClientWindManager.time = 24000L;
+		this.noise = ClientWindManager.perlinXoro;
+		RandomSource random = RandomSource.create(BenchmarkBootstrap.SEED);
+		for (int i = 0; i < POSITIONS; i++) {
+			this.x[i] = random.nextInt(60000) - 30000 + 0.5D;
+			this.y[i] = random.nextInt(384) - 64 + 0.5D;
+			this.z[i] = random.nextInt(60000) - 30000 + 0.5D;
+		}
+	}
+
+	/**
+	 * Samples the noise directly, three times per position.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(POSITIONS)
+	public void noise(Blackhole blackhole) {
+		double sampledTime = ClientWindManager.time * 0.1;
+		for (int i = 0; i < POSITIONS; i++) {
+			double coordinate = (this.x[i] + this.y[i] + this.z[i] + sampledTime) * STRETCH;
+			blackhole.consume(this.noise.noise(coordinate, 0, 0));
+			blackhole.consume(this.noise.noise(0, coordinate, 0));
+			blackhole.consume(this.noise.noise(0, 0, coordinate));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(POSITIONS)
+	public void sample3D(Blackhole blackhole) {
+		for (int i = 0; i < POSITIONS; i++) {
+			Vector3d wind = ClientWindManager.sample3D(this.x[i], this.y[i], this.z[i], STRETCH, this.output);
+			blackhole.consume(wind.x);
+			blackhole.consume(wind.y);
+			blackhole.consume(wind.z);
+		}
+	}
+}
@@ -18,19 +18,25 @@
 
 package net.frozenblock.lib;
 
+import java.util.HashMap;
+import java.util.Map;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.fabricmc.loader.api.FabricLoader;
+import net.frozenblock.lib.entity.impl.client.EntityTextureOverrideIndex;
 import net.frozenblock.lib.entrypoint.api.FrozenClientEntrypoint;
+import net.frozenblock.lib.event.api.RegistryFreezeEvents;
 import net.frozenblock.lib.integration.api.ModIntegrations;
 import net.frozenblock.lib.item.impl.CooldownInterface;
 import net.frozenblock.lib.menu.api.Panoramas;
 import net.frozenblock.lib.registry.api.client.FrozenClientRegistry;
 import net.frozenblock.lib.screenshake.api.client.ScreenShaker;
 import net.frozenblock.lib.sound.api.FlyBySoundHub;
+import net.frozenblock.lib.sound.api.FrozenSoundPackets;
 import net.frozenblock.lib.sound.api.damagesource.PlayerDamageSourceSounds;
 import net.frozenblock.lib.sound.api.instances.RestrictedMovingSound;
 import net.frozenblock.lib.sound.api.instances.RestrictedMovingSoundLoop;
@@ -38,13 +44,20 @@ import net.frozenblock.lib.sound.api.instances.RestrictedStartingSound;
 import net.frozenblock.lib.sound.api.instances.distance_based.FadingDistanceSwitchingSound;
 import net.frozenblock.lib.sound.api.instances.distance_based.RestrictedMovingFadingDistanceSwitchingSoundLoop;
 import net.frozenblock.lib.sound.api.predicate.SoundPredicate;
+import net.frozenblock.lib.sound.impl.LoopingSoundVoices;
+import net.frozenblock.lib.sound.impl.SoundPacketBundler;
 import net.frozenblock.lib.sound.impl.block_sound_group.BlockSoundGroupManager;
+import net.frozenblock.lib.spotting_icons.api.SpottingIconManager;
+import net.frozenblock.lib.spotting_icons.impl.ClientSpottingIcons;
 import net.frozenblock.lib.spotting_icons.impl.EntitySpottingIconInterface;
+import net.frozenblock.lib.spotting_icons.impl.SpottingIconTextureCache;
 import net.frozenblock.lib.wind.api.ClientWindManager;
+import net.frozenblock.lib.wind.impl.WindSync;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.client.resources.sounds.EntityBoundSoundInstance;
 import net.minecraft.core.Registry;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
 import net.minecraft.sounds.SoundEvent;
@@ -58,13 +71,21 @@ import org.quiltmc.qsl.frozenblock.misc.datafixerupper.impl.client.ClientFreezer
 
 public final class FrozenClient implements ClientModInitializer {
 
+	private static final Map<ResourceLocation, ClientPlayNetworking.PlayChannelHandler> SOUND_RECEIVERS = new HashMap<>();
+
 	@Override
 	public void onInitializeClient() {
 		FrozenClientRegistry.initRegistry();
+		RegistryFreezeEvents.END_REGISTRY_FREEZE.register((registry, allRegistries) -> {
+			if (allRegistries || registry == FrozenClientRegistry.ENTITY_TEXTURE_OVERRIDE) {
+				EntityTextureOverrideIndex.rebuild();
+			}
+		});
 		ModIntegrations.initialize(); // Mod integrations must run after normal mod initialization
 		ClientFreezer.onInitializeClient();
 		registerClientEvents();
 
+		receiveSoundBundlePacket();
 		receiveLocalSoundPacket();
 		receiveMovingRestrictionSoundPacket();
 		receiveRestrictedMovingSoundLoopPacket();
@@ -90,6 +111,7 @@ public final class FrozenClient implements ClientModInitializer {
 
 		var resourceLoader = ResourceManagerHelper.get(PackType.CLIENT_RESOURCES);
 		resourceLoader.registerReloadListener(BlockSoundGroupManager.INSTANCE);
+		resourceLoader.registerReloadListener(SpottingIconTextureCache.INSTANCE);
 
 		FabricLoader.getInstance().getEntrypointContainers("frozenlib:client", FrozenClientEntrypoint.class).forEach(entrypoint -> {
 			try {
@@ -104,11 +126,33 @@ public final class FrozenClient implements ClientModInitializer {
 		});
 	}
 
+	/**
+	 * Registers a sound packet receiver that can also be invoked from a {@link FrozenMain#SOUND_BUNDLE_PACKET}.
+	 */
+	private static void registerSoundReceiver(ResourceLocation channel, ClientPlayNetworking.PlayChannelHandler receiver) {
+		SOUND_RECEIVERS.put(channel, receiver);
+		ClientPlayNetworking.registerGlobalReceiver(channel, receiver);
+	}
+
+	private static void receiveSoundBundlePacket() {
+		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.SOUND_BUNDLE_PACKET, (client, handler, buf, responseSender) -> {
+			int count = buf.readVarInt();
+			for (int i = 0; i < count; i++) {
+				ResourceLocation channel = SoundPacketBundler.getChannel(buf.readVarInt());
+				FriendlyByteBuf payload = new FriendlyByteBuf(buf.readSlice(buf.readVarInt()));
+				ClientPlayNetworking.PlayChannelHandler receiver = channel != null ? SOUND_RECEIVERS.get(channel) : null;
+				if (receiver != null) {
+					receiver.receive(client, handler, payload, responseSender);
+				}
+			}
+		});
+	}
+
 	private static void receiveLocalSoundPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.LOCAL_SOUND_PACKET, (client, handler, buf, responseSender) -> {
-			double x = buf.readDouble();
-			double y = buf.readDouble();
-			double z = buf.readDouble();
+		registerSoundReceiver(FrozenMain.LOCAL_SOUND_PACKET, (client, handler, buf, responseSender) -> {
+			double x = FrozenSoundPackets.readPositionComponent(buf);
+			double y = FrozenSoundPackets.readPositionComponent(buf);
+			double z = FrozenSoundPackets.readPositionComponent(buf);
 			SoundEvent sound = buf.readById(Registry.SOUND_EVENT);
 			SoundSource source = buf.readEnum(SoundSource.class);
 			float volume = buf.readFloat();
@@ -124,7 +168,7 @@ public final class FrozenClient implements ClientModInitializer {
 	}
 
 	private static void receiveLocalPlayerSoundPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.LOCAL_PLAYER_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+		registerSoundReceiver(FrozenMain.LOCAL_PLAYER_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
 			SoundEvent sound = byteBuf.readById(Registry.SOUND_EVENT);
 			float volume = byteBuf.readFloat();
 			float pitch = byteBuf.readFloat();
@@ -142,13 +186,13 @@ public final class FrozenClient implements ClientModInitializer {
 
 	@SuppressWarnings("unchecked")
 	private static <T extends Entity> void receiveMovingRestrictionSoundPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.MOVING_RESTRICTION_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+		registerSoundReceiver(FrozenMain.MOVING_RESTRICTION_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
 			int id = byteBuf.readVarInt();
 			SoundEvent sound = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundSource category = byteBuf.readEnum(SoundSource.class);
 			float volume = byteBuf.readFloat();
 			float pitch = byteBuf.readFloat();
-			ResourceLocation predicateId = byteBuf.readResourceLocation();
+			ResourceLocation predicateId = SoundPredicate.readPredicateId(byteBuf);
 			boolean stopOnDeath = byteBuf.readBoolean();
 			ctx.execute(() -> {
 				ClientLevel level = ctx.level;
@@ -165,13 +209,13 @@ public final class FrozenClient implements ClientModInitializer {
 
 	@SuppressWarnings("unchecked")
 	private static <T extends Entity> void receiveRestrictedMovingSoundLoopPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.MOVING_RESTRICTION_LOOPING_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+		registerSoundReceiver(FrozenMain.MOVING_RESTRICTION_LOOPING_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
 			int id = byteBuf.readVarInt();
 			SoundEvent sound = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundSource category = byteBuf.readEnum(SoundSource.class);
 			float volume = byteBuf.readFloat();
 			float pitch = byteBuf.readFloat();
-			ResourceLocation predicateId = byteBuf.readResourceLocation();
+			ResourceLocation predicateId = SoundPredicate.readPredicateId(byteBuf);
 			boolean stopOnDeath = byteBuf.readBoolean();
 			ctx.execute(() -> {
 				ClientLevel level = ctx.level;
@@ -179,7 +223,7 @@ public final class FrozenClient implements ClientModInitializer {
 					T entity = (T) level.getEntity(id);
 					if (entity != null) {
 						SoundPredicate.LoopPredicate<T> predicate = SoundPredicate.getPredicate(predicateId);
-						ctx.getSoundManager().play(new RestrictedMovingSoundLoop<>(entity, sound, category, volume, pitch, predicate, stopOnDeath));
+						LoopingSoundVoices.play(entity, new RestrictedMovingSoundLoop<>(entity, sound, category, volume, pitch, predicate, stopOnDeath));
 					}
 				}
 			});
@@ -188,14 +232,14 @@ public final class FrozenClient implements ClientModInitializer {
 
 	@SuppressWarnings("unchecked")
 	private static <T extends Entity> void receiveStartingRestrictedMovingSoundLoopPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.STARTING_RESTRICTION_LOOPING_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+		registerSoundReceiver(FrozenMain.STARTING_RESTRICTION_LOOPING_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
 			int id = byteBuf.readVarInt();
 			SoundEvent startingSound = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundEvent loopingSound = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundSource category = byteBuf.readEnum(SoundSource.class);
 			float volume = byteBuf.readFloat();
 			float pitch = byteBuf.readFloat();
-			ResourceLocation predicateId = byteBuf.readResourceLocation();
+			ResourceLocation predicateId = SoundPredicate.readPredicateId(byteBuf);
 			boolean stopOnDeath = byteBuf.readBoolean();
 			ctx.execute(() -> {
 				ClientLevel level = ctx.level;
@@ -212,7 +256,7 @@ public final class FrozenClient implements ClientModInitializer {
 
 	@SuppressWarnings("unchecked")
 	private static <T extends Entity> void receiveMovingRestrictionLoopingFadingDistanceSoundPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.MOVING_RESTRICTION_LOOPING_FADING_DISTANCE_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+		registerSoundReceiver(FrozenMain.MOVING_RESTRICTION_LOOPING_FADING_DISTANCE_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
 			int id = byteBuf.readVarInt();
 			SoundEvent sound = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundEvent sound2 = byteBuf.readById(Registry.SOUND_EVENT);
@@ -221,7 +265,7 @@ public final class FrozenClient implements ClientModInitializer {
 			float pitch = byteBuf.readFloat();
 			float fadeDist = byteBuf.readFloat();
 			float maxDist = byteBuf.readFloat();
-			ResourceLocation predicateId = byteBuf.readResourceLocation();
+			ResourceLocation predicateId = SoundPredicate.readPredicateId(byteBuf);
 			boolean stopOnDeath = byteBuf.readBoolean();
 			ctx.execute(() -> {
 				ClientLevel level = ctx.level;
@@ -229,8 +273,8 @@ public final class FrozenClient implements ClientModInitializer {
 					T entity = (T) level.getEntity(id);
 					if (entity != null) {
 						SoundPredicate.LoopPredicate<T> predicate = SoundPredicate.getPredicate(predicateId);
-						ctx.getSoundManager().play(new RestrictedMovingFadingDistanceSwitchingSoundLoop<>(entity, sound, category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist, volume, false));
-						ctx.getSoundManager().play(new RestrictedMovingFadingDistanceSwitchingSoundLoop<>(entity, sound2, category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist, volume, true));
+						LoopingSoundVoices.play(entity, new RestrictedMovingFadingDistanceSwitchingSoundLoop<>(entity, sound, category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist, volume, false));
+						LoopingSoundVoices.play(entity, new RestrictedMovingFadingDistanceSwitchingSoundLoop<>(entity, sound2, category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist, volume, true));
 					}
 				}
 			});
@@ -239,7 +283,7 @@ public final class FrozenClient implements ClientModInitializer {
 
 	@SuppressWarnings("unchecked")
 	private static <T extends Entity> void receiveMovingFadingDistanceSoundPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.MOVING_FADING_DISTANCE_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+		registerSoundReceiver(FrozenMain.MOVING_FADING_DISTANCE_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
 			int id = byteBuf.readVarInt();
 			SoundEvent sound = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundEvent sound2 = byteBuf.readById(Registry.SOUND_EVENT);
@@ -248,7 +292,7 @@ public final class FrozenClient implements ClientModInitializer {
 			float pitch = byteBuf.readFloat();
 			float fadeDist = byteBuf.readFloat();
 			float maxDist = byteBuf.readFloat();
-			ResourceLocation predicateId = byteBuf.readResourceLocation();
+			ResourceLocation predicateId = SoundPredicate.readPredicateId(byteBuf);
 			boolean stopOnDeath = byteBuf.readBoolean();
 			ctx.execute(() -> {
 				ClientLevel level = ctx.level;
@@ -256,8 +300,8 @@ public final class FrozenClient implements ClientModInitializer {
 					T entity = (T) level.getEntity(id);
 					if (entity != null) {
 						SoundPredicate.LoopPredicate<T> predicate = SoundPredicate.getPredicate(predicateId);
-						ctx.getSoundManager().play(new RestrictedMovingFadingDistanceSwitchingSoundLoop<>(entity, sound, category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist, volume, false));
-						ctx.getSoundManager().play(new RestrictedMovingFadingDistanceSwitchingSoundLoop<>(entity, sound2, category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist, volume, true));
+						LoopingSoundVoices.play(entity, new RestrictedMovingFadingDistanceSwitchingSoundLoop<>(entity, sound, category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist, volume, false));
+						LoopingSoundVoices.play(entity, new RestrictedMovingFadingDistanceSwitchingSoundLoop<>(entity, sound2, category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist, volume, true));
 					}
 				}
 			});
@@ -265,10 +309,10 @@ public final class FrozenClient implements ClientModInitializer {
 	}
 
 	private static void receiveFadingDistanceSoundPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.FADING_DISTANCE_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
-			double x = byteBuf.readDouble();
-			double y = byteBuf.readDouble();
-			double z = byteBuf.readDouble();
+		registerSoundReceiver(FrozenMain.FADING_DISTANCE_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+			double x = FrozenSoundPackets.readPositionComponent(byteBuf);
+			double y = FrozenSoundPackets.readPositionComponent(byteBuf);
+			double z = FrozenSoundPackets.readPositionComponent(byteBuf);
 			SoundEvent sound = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundEvent sound2 = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundSource category = byteBuf.readEnum(SoundSource.class);
@@ -287,7 +331,7 @@ public final class FrozenClient implements ClientModInitializer {
 	}
 
 	private static void receiveFlybySoundPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.FLYBY_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+		registerSoundReceiver(FrozenMain.FLYBY_SOUND_PACKET, (ctx, handler, byteBuf, responseSender) -> {
 			int id = byteBuf.readVarInt();
 			SoundEvent sound = byteBuf.readById(Registry.SOUND_EVENT);
 			SoundSource category = byteBuf.readEnum(SoundSource.class);
@@ -431,7 +475,11 @@ public final class FrozenClient implements ClientModInitializer {
 				if (level != null) {
 					Entity entity = level.getEntity(id);
 					if (entity instanceof EntitySpottingIconInterface livingEntity) {
-						livingEntity.getSpottingIconManager().icon = null;
+						SpottingIconManager iconManager = livingEntity.getSpottingIconManagerIfPresent();
+						if (iconManager != null) {
+							iconManager.icon = null;
+							ClientSpottingIcons.remove(iconManager);
+						}
 					}
 				}
 			});
@@ -440,24 +488,40 @@ public final class FrozenClient implements ClientModInitializer {
 
 	private static void receiveWindSyncPacket() {
 		ClientPlayNetworking.registerGlobalReceiver(FrozenMain.WIND_SYNC_PACKET, (ctx, handler, byteBuf, responseSender) -> {
-			long windTime = byteBuf.readLong();
-			double x = byteBuf.readDouble();
-			double y = byteBuf.readDouble();
-			double z = byteBuf.readDouble();
-			long seed = byteBuf.readLong();
-			boolean override = byteBuf.readBoolean();
-			double xa = byteBuf.readDouble();
-			double ya = byteBuf.readDouble();
-			double za = byteBuf.readDouble();
+			int flags = byteBuf.readByte();
+			boolean hasTime = (flags & WindSync.TIME) != 0;
+			boolean hasSeed = (flags & WindSync.SEED) != 0;
+			boolean hasOverride = (flags & WindSync.OVERRIDE) != 0;
+			boolean hasClouds = (flags & WindSync.CLOUDS) != 0;
+			boolean driftCheck = (flags & WindSync.DRIFT_CHECK) != 0;
+			long windTime = hasTime ? byteBuf.readVarLong() : 0L;
+			long seed = hasSeed ? byteBuf.readLong() : 0L;
+			boolean override = hasOverride && byteBuf.readBoolean();
+			Vec3 commandWind = override ? new Vec3(byteBuf.readDouble(), byteBuf.readDouble(), byteBuf.readDouble()) : Vec3.ZERO;
+			double x = hasClouds ? byteBuf.readDouble() : 0D;
+			double y = hasClouds ? byteBuf.readDouble() : 0D;
+			double z = hasClouds ? byteBuf.readDouble() : 0D;
 			ctx.execute(() -> {
 				if (ctx.level != null) {
-					ClientWindManager.time = windTime;
-					ClientWindManager.cloudX = x;
-					ClientWindManager.cloudY = y;
-					ClientWindManager.cloudZ = z;
-					ClientWindManager.setSeed(seed);
-					ClientWindManager.overrideWind = override;
-					ClientWindManager.commandWind = new Vec3(xa, ya, za);
+					// drift checks are only applied if the prediction diverged, so latency doesn't make the wind jitter
+					boolean correct = !driftCheck || !ClientWindManager.hasInitialized;
+					if (hasTime && (correct || Math.abs(ClientWindManager.time - windTime) > WindSync.TIME_TOLERANCE)) {
+						ClientWindManager.time = windTime;
+					}
+					if (hasClouds && (correct || Math.abs(ClientWindManager.cloudX - x) > WindSync.CLOUD_TOLERANCE
+							|| Math.abs(ClientWindManager.cloudY - y) > WindSync.CLOUD_TOLERANCE
+							|| Math.abs(ClientWindManager.cloudZ - z) > WindSync.CLOUD_TOLERANCE)) {
+						ClientWindManager.cloudX = x;
+						ClientWindManager.cloudY = y;
+						ClientWindManager.cloudZ = z;
+					}
+					if (hasSeed) {
+						ClientWindManager.setSeed(seed);
+					}
+					if (hasOverride) {
+						ClientWindManager.overrideWind = override;
+						ClientWindManager.commandWind = commandWind;
+					}
 					ClientWindManager.hasInitialized = true;
 				}
 			});
@@ -487,6 +551,11 @@ public final class FrozenClient implements ClientModInitializer {
 		ClientTickEvents.START_CLIENT_TICK.register(ScreenShaker::tick);
 		ClientTickEvents.START_CLIENT_TICK.register(client -> FlyBySoundHub.update(client, client.player, true));
 		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> ScreenShaker.clear());
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> ClientSpottingIcons.clear());
+		ClientTickEvents.START_CLIENT_TICK.register(LoopingSoundVoices::tick);
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> LoopingSoundVoices.clear());
+		ClientEntityEvents.ENTITY_UNLOAD.register((entity, level) -> FlyBySoundHub.removeEntity(entity));
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> FlyBySoundHub.clear());
 	}
 
 }
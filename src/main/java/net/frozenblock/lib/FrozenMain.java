@@ -21,12 +21,18 @@ package net.frozenblock.lib;
 import java.util.List;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.entrypoint.EntrypointContainer;
+import net.frozenblock.lib.config.api.registry.ConfigRegistry;
+import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
+import net.frozenblock.lib.entity.impl.EntityAttachments;
 import net.frozenblock.lib.entrypoint.api.FrozenMainEntrypoint;
 import net.frozenblock.lib.event.api.PlayerJoinEvents;
+import net.frozenblock.lib.event.api.RegistryFreezeEvents;
 import net.frozenblock.lib.ingamedevtools.RegisterInGameDevTools;
 import net.frozenblock.lib.worldgen.feature.api.FrozenFeatures;
 import net.frozenblock.lib.registry.api.FrozenRegistry;
@@ -34,12 +40,17 @@ import net.frozenblock.lib.screenshake.api.ScreenShakeManager;
 import net.frozenblock.lib.screenshake.api.command.ScreenShakeCommand;
 import net.frozenblock.lib.screenshake.impl.ScreenShakeStorage;
 import net.frozenblock.lib.sound.api.predicate.SoundPredicate;
+import net.frozenblock.lib.sound.impl.SoundPacketBundler;
 import net.frozenblock.lib.spotting_icons.api.SpottingIconPredicate;
+import net.frozenblock.lib.storage.api.HopperUntouchableList;
 import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.lib.wind.api.command.WindOverrideCommand;
 import net.frozenblock.lib.wind.impl.WindStorage;
 import net.frozenblock.lib.worldgen.feature.api.placementmodifier.FrozenPlacementModifiers;
+import net.frozenblock.lib.worldgen.feature.impl.PendingFeaturePlacements;
 import net.frozenblock.lib.worldgen.surface.impl.BiomeTagConditionSource;
+import net.frozenblock.lib.worldgen.surface.impl.BiomeTagIndex;
+import net.frozenblock.lib.worldgen.surface.impl.SurfaceRuleUtil;
 import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.storage.DimensionDataStorage;
@@ -71,6 +82,11 @@ public final class FrozenMain implements ModInitializer {
 		FrozenPlacementModifiers.init();
 
 		Registry.register(Registry.CONDITION, FrozenMain.id("biome_tag_condition_source"), BiomeTagConditionSource.CODEC.codec());
+		RegistryFreezeEvents.END_REGISTRY_FREEZE.register((registry, allRegistries) -> {
+			if (allRegistries || registry == Registry.BLOCK_ENTITY_TYPE) {
+				HopperUntouchableList.freeze();
+			}
+		});
 
 		if (FabricLoader.getInstance().isDevelopmentEnvironment()) {
 			RegisterInGameDevTools.register();
@@ -88,6 +104,14 @@ public final class FrozenMain implements ModInitializer {
 			}
 		});
 
+		// loaded here so its file is watched on dedicated servers too, not only once the config screen is opened
+		if (FrozenBools.HAS_CLOTH_CONFIG) {
+			FrozenLibConfig.init();
+		}
+
+		// configs registered so far load in parallel, let them finish during init instead of on first use
+		ConfigRegistry.awaitLoading();
+
 		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> WindOverrideCommand.register(dispatcher));
 		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> ScreenShakeCommand.register(dispatcher));
 
@@ -104,6 +128,20 @@ public final class FrozenMain implements ModInitializer {
 			ScreenShakeManager.getScreenShakeManager(serverLevel).tick();
 		});
 
+		ServerTickEvents.END_WORLD_TICK.register(EntityAttachments::tick);
+		ServerTickEvents.END_WORLD_TICK.register(PendingFeaturePlacements::tick);
+		ServerTickEvents.END_SERVER_TICK.register(server -> SoundPacketBundler.flush());
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			SoundPacketBundler.clear();
+			PendingFeaturePlacements.clear();
+			EntityAttachments.clear();
+			SurfaceRuleUtil.clearCompiledSurfaceRules();
+			BiomeTagIndex.clear();
+		});
+		ServerLifecycleEvents.SERVER_STARTING.register(server -> BiomeTagIndex.rebuild(server.registryAccess()));
+		ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> BiomeTagIndex.rebuild(server.registryAccess()));
+		ServerChunkEvents.CHUNK_LOAD.register((serverLevel, chunk) -> PendingFeaturePlacements.onChunkLoaded(serverLevel, chunk.getPos()));
+
 		PlayerJoinEvents.ON_PLAYER_ADDED_TO_LEVEL.register(((server, serverLevel, player) -> {
 			WindManager windManager = WindManager.getWindManager(serverLevel);
 			windManager.sendSyncToPlayer(windManager.createSyncByteBuf(), player);
@@ -121,6 +159,7 @@ public final class FrozenMain implements ModInitializer {
 	public static final ResourceLocation FADING_DISTANCE_SOUND_PACKET = id("fading_distance_sound_packet");
 	public static final ResourceLocation MOVING_FADING_DISTANCE_SOUND_PACKET = id("moving_fading_distance_sound_packet");
 	public static final ResourceLocation LOCAL_PLAYER_SOUND_PACKET = id("local_player_sound_packet");
+	public static final ResourceLocation SOUND_BUNDLE_PACKET = id("sound_bundle_packet");
 	public static final ResourceLocation COOLDOWN_CHANGE_PACKET = id("cooldown_change_packet");
 	public static final ResourceLocation FORCED_COOLDOWN_PACKET = id("forced_cooldown_packet");
 	public static final ResourceLocation COOLDOWN_TICK_COUNT_PACKET = id("cooldown_tick_count_packet");
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.config.api;
+
+import java.util.List;
+import net.fabricmc.fabric.api.event.Event;
+import net.frozenblock.lib.config.api.instance.Config;
+import net.frozenblock.lib.entrypoint.api.CommonEventEntrypoint;
+import net.frozenblock.lib.event.api.FrozenEvents;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Events for configs registered with {@link net.frozenblock.lib.config.api.registry.ConfigRegistry}.
+ */
+public class ConfigEvents {
+
+	/**
+	 * Triggered after a config has been reloaded because its file changed, if any of its values changed.
+	 * <p>
+	 * This is invoked on the config reloader thread, so listeners that touch the game should hand their work over to it.
+	 */
+	public static final Event<ConfigChanged> CHANGED = FrozenEvents.createEnvironmentEvent(ConfigChanged.class, callbacks -> (config, changes) -> {
+		for (var callback : callbacks) {
+			callback.onConfigChanged(config, changes);
+		}
+	});
+
+	@FunctionalInterface
+	public interface ConfigChanged extends CommonEventEntrypoint {
+		/**
+		 * @param config	The config, which already holds the new values.
+		 * @param changes	Every field whose value changed.
+		 */
+		void onConfigChanged(Config<?> config, List<FieldChange> changes);
+	}
+
+	/**
+	 * A change to a single field of a config.
+	 *
+	 * @param name	The name of the field. Fields of nested objects are separated by dots, like {@code category.field}.
+	 * @param type	The declared type of the field.
+	 */
+	public record FieldChange(String name, Class<?> type, @Nullable Object oldValue, @Nullable Object newValue) {
+
+		/**
+		 * @return whether this is a change to the specified field.
+		 */
+		public boolean is(String name) {
+			return this.name.equals(name);
+		}
+	}
+}
@@ -19,11 +19,18 @@
 package net.frozenblock.lib.config.api.entry;
 
 import com.mojang.serialization.Codec;
-import net.frozenblock.lib.FrozenMain;
 import net.frozenblock.lib.config.api.registry.ConfigRegistry;
-import java.util.List;
+import org.jetbrains.annotations.Nullable;
 
-public record TypedEntryType<T>(String modId, Codec<T> codec) {
+/**
+ * @param name	A name unique within the mod, which entries of this type are saved with.
+ *             	Types without a name are saved as only their value, and are found again by trying each of the mod's types in turn.
+ */
+public record TypedEntryType<T>(String modId, Codec<T> codec, @Nullable String name) {
+
+	public TypedEntryType(String modId, Codec<T> codec) {
+		this(modId, codec, null);
+	}
 
 	public static <T> TypedEntryType<T> register(TypedEntryType<T> type) {
 		return ConfigRegistry.register(type);
@@ -18,15 +18,29 @@
 
 package net.frozenblock.lib.config.api.instance;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import net.frozenblock.lib.FrozenMain;
 
 public abstract class Config<T> {
 
 	private final String modId;
 	private final Path path;
 	private final Class<T> config;
-	private T configInstance;
+	/**
+	 * Replaced as a whole when the config is loaded again, so readers on any thread see either the old or the new values.
+	 */
+	private volatile T configInstance;
 	private final T defaultInstance;
+	private final List<Consumer<T>> setListeners = new CopyOnWriteArrayList<>();
+	private volatile CompletableFuture<Void> initialLoad;
+	private volatile Thread loadingThread;
 
 	public Config(String modId, Class<T> config, Path path) {
 		this.modId = modId;
@@ -51,12 +65,30 @@ public abstract class Config<T> {
 		return this.path;
 	}
 
+	/**
+	 * Waits for the initial load to finish, loading on the calling thread if it hasn't started yet.
+	 */
 	public T config() {
+		this.awaitInitialLoad();
 		return this.configInstance;
 	}
 
 	public void setConfig(T configInstance) {
 		this.configInstance = configInstance;
+		for (Consumer<T> listener : this.setListeners) {
+			listener.accept(configInstance);
+		}
+	}
+
+	/**
+	 * Creates a snapshot of this config, which is rebuilt by the factory every time a new config instance is set.
+	 */
+	public <S> ConfigSnapshot<S> snapshot(Function<? super T, ? extends S> factory) {
+		ConfigSnapshot<S> snapshot = new ConfigSnapshot<>(factory.apply(this.config()));
+		this.setListeners.add(config -> snapshot.set(factory.apply(config)));
+		// in case the config was replaced before the listener was added
+		snapshot.set(factory.apply(this.configInstance));
+		return snapshot;
 	}
 
 	public T defaultInstance() {
@@ -67,6 +99,51 @@ public abstract class Config<T> {
 		return this.config;
 	}
 
+	/**
+	 * Starts loading this config on the executor, unless the initial load has already started.
+	 * <p>
+	 * If the file was loaded or doesn't exist yet, it's saved afterwards.
+	 * If loading fails, the default values are kept.
+	 */
+	public synchronized CompletableFuture<Void> startLoading(Executor executor) {
+		if (this.initialLoad == null) {
+			this.initialLoad = CompletableFuture.runAsync(() -> {
+				this.loadingThread = Thread.currentThread();
+				try {
+					if (this.load()) {
+						this.save();
+					}
+				} catch (RuntimeException e) {
+					FrozenMain.LOGGER.error("Failed to load config " + this.configClass().getSimpleName() + ", using its default values", e);
+				} finally {
+					this.loadingThread = null;
+				}
+			}, executor);
+		}
+		return this.initialLoad;
+	}
+
+	private void awaitInitialLoad() {
+		// save and load use config() themselves
+		if (this.loadingThread == Thread.currentThread()) {
+			return;
+		}
+		CompletableFuture<Void> load = this.initialLoad;
+		if (load == null) {
+			load = this.startLoading(Runnable::run);
+		}
+		load.join();
+	}
+
+	/**
+	 * Loads the config again after its file has changed.
+	 *
+	 * @return whether a new config instance was set.
+	 */
+	public boolean reload() {
+		return Files.exists(this.path()) && this.load();
+	}
+
 	public abstract void save();
 	public abstract boolean load();
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.config.api.instance;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * An immutable view of a config, replaced as a whole whenever the config changes.
+ * <p>
+ * Reading the snapshot is a single volatile read, so it's cheap enough for code that runs every tick.
+ * Snapshots should be records or other classes with only final fields.
+ *
+ * @see Config#snapshot(java.util.function.Function)
+ */
+public final class ConfigSnapshot<S> {
+	private final List<Consumer<? super S>> listeners = new CopyOnWriteArrayList<>();
+	private volatile S snapshot;
+
+	public ConfigSnapshot(S snapshot) {
+		this.snapshot = Objects.requireNonNull(snapshot);
+	}
+
+	public S get() {
+		return this.snapshot;
+	}
+
+	/**
+	 * Calls the listener with the current snapshot, and again every time it's replaced with one that isn't equal to it.
+	 * <p>
+	 * Use this to cache values derived from the config instead of recomputing them on every read.
+	 */
+	public void addListener(Consumer<? super S> listener) {
+		this.listeners.add(listener);
+		listener.accept(this.snapshot);
+	}
+
+	public void set(S snapshot) {
+		Objects.requireNonNull(snapshot);
+		if (snapshot.equals(this.snapshot)) {
+			return;
+		}
+		this.snapshot = snapshot;
+		for (Consumer<? super S> listener : this.listeners) {
+			listener.accept(snapshot);
+		}
+	}
+}
@@ -20,6 +20,7 @@ package net.frozenblock.lib.config.api.instance.json;
 
 import blue.endless.jankson.JsonElement;
 import blue.endless.jankson.JsonObject;
+import blue.endless.jankson.JsonPrimitive;
 import blue.endless.jankson.api.Marshaller;
 import net.frozenblock.lib.config.api.entry.TypedEntry;
 
@@ -49,7 +50,13 @@ public class JanksonTypedEntrySerializer implements BiFunction<TypedEntry, Marsh
 						if (encoded != null && encoded.error().isEmpty()) {
 							var optional = encoded.result();
 							if (optional.isPresent()) {
-								return (JsonElement) optional.get();
+								if (type.name() == null) {
+									return (JsonElement) optional.get();
+								}
+								JsonObject json = new JsonObject();
+								json.put(TypedEntrySerializer.TYPE_KEY, new JsonPrimitive(type.name()));
+								json.put(TypedEntrySerializer.VALUE_KEY, (JsonElement) optional.get());
+								return json;
 							}
 						}
 					}
@@ -21,19 +21,27 @@ package net.frozenblock.lib.config.api.instance.json;
 import blue.endless.jankson.Jankson;
 import blue.endless.jankson.JsonGrammar;
 import blue.endless.jankson.api.SyntaxError;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import java.io.BufferedWriter;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
 import java.io.IOException;
-import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.util.Map;
 import net.frozenblock.lib.FrozenMain;
 import net.frozenblock.lib.config.api.entry.TypedEntry;
 import net.frozenblock.lib.config.api.instance.Config;
 import net.frozenblock.lib.config.api.instance.GsonUtils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Serializes and deserializes config data with GSON and Jankson.
@@ -48,6 +56,12 @@ public class JsonConfig<T> extends Config<T> {
 
 	private final boolean useJankson;
 
+	/**
+	 * The hash of the file's content as of the last load or save, so saving the same content again can be skipped.
+	 */
+	@Nullable
+	private volatile HashCode fileHash;
+
 	public JsonConfig(String modId, Class<T> config) {
 		this(modId, config, false);
 	}
@@ -74,24 +88,20 @@ public class JsonConfig<T> extends Config<T> {
 				.build();
 
 		this.useJankson = json5;
-
-		if (this.load()) {
-			this.save();
-		}
 	}
 
 	@Override
 	public void save() {
+		String content = this.useJankson ? this.jankson.toJson(this.config()).toJson(JsonGrammar.JSON5) : this.gson.toJson(this.config());
+		HashCode hash = hash(content);
+		if (hash.equals(this.fileHash) && Files.exists(this.path())) {
+			return;
+		}
 		FrozenMain.LOGGER.info("Saving config {}", this.configClass().getSimpleName());
 		try {
 			Files.createDirectories(this.path().getParent());
-			BufferedWriter writer = Files.newBufferedWriter(this.path(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
-			if (this.useJankson) {
-				writer.write(this.jankson.toJson(this.config()).toJson(JsonGrammar.JSON5));
-			} else {
-				this.gson.toJson(this.config(), writer);
-			}
-			writer.close();
+			Files.writeString(this.path(), content, StandardCharsets.UTF_8);
+			this.fileHash = hash;
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
@@ -102,12 +112,9 @@ public class JsonConfig<T> extends Config<T> {
 		FrozenMain.LOGGER.info("Loading config {}", this.configClass().getSimpleName());
 		if (Files.exists(this.path())) {
 			try {
-				String json = this.jankson.load(this.path().toFile()).toJson(JsonGrammar.COMPACT);
-				var reader = new StringReader(json);
-				this.setConfig(this.gson.fromJson(reader, this.configClass()));
-				reader.close();
+				this.load(Files.readString(this.path(), StandardCharsets.UTF_8));
 				return true;
-			} catch (IOException | SyntaxError e) {
+			} catch (IOException | SyntaxError | JsonParseException e) {
 				e.printStackTrace();
 				return false;
 			}
@@ -115,4 +122,66 @@ public class JsonConfig<T> extends Config<T> {
 			return true;
 		}
 	}
+
+	@Override
+	public boolean reload() {
+		if (!Files.exists(this.path())) {
+			return false;
+		}
+		try {
+			String content = Files.readString(this.path(), StandardCharsets.UTF_8);
+			// saving the config changes the file too
+			if (hash(content).equals(this.fileHash)) {
+				return false;
+			}
+			FrozenMain.LOGGER.info("Reloading config {}", this.configClass().getSimpleName());
+			this.load(content);
+			return true;
+		} catch (IOException | SyntaxError | JsonParseException e) {
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	private void load(String content) throws SyntaxError {
+		if (this.useJankson) {
+			// the Jankson tree is handed to GSON as is, instead of being written out and parsed again
+			this.setConfig(this.gson.fromJson(toGson(this.jankson.load(content)), this.configClass()));
+		} else {
+			this.setConfig(this.gson.fromJson(content, this.configClass()));
+		}
+		this.fileHash = hash(content);
+	}
+
+	private static HashCode hash(String content) {
+		return Hashing.murmur3_128().hashString(content, StandardCharsets.UTF_8);
+	}
+
+	private static JsonElement toGson(blue.endless.jankson.JsonElement element) {
+		if (element instanceof blue.endless.jankson.JsonObject object) {
+			JsonObject json = new JsonObject();
+			for (Map.Entry<String, blue.endless.jankson.JsonElement> entry : object.entrySet()) {
+				json.add(entry.getKey(), toGson(entry.getValue()));
+			}
+			return json;
+		}
+		if (element instanceof blue.endless.jankson.JsonArray array) {
+			JsonArray json = new JsonArray(array.size());
+			for (blue.endless.jankson.JsonElement value : array) {
+				json.add(toGson(value));
+			}
+			return json;
+		}
+		if (element instanceof blue.endless.jankson.JsonPrimitive primitive) {
+			Object value = primitive.getValue();
+			if (value instanceof Number number) {
+				return new JsonPrimitive(number);
+			}
+			if (value instanceof Boolean bool) {
+				return new JsonPrimitive(bool);
+			}
+			return new JsonPrimitive(primitive.asString());
+		}
+		return JsonNull.INSTANCE;
+	}
 }
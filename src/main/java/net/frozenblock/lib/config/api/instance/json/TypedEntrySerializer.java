@@ -31,8 +31,17 @@ import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Objects;
 
+/**
+ * Typed entries with a named type are saved as an object holding the name of their type and their value.
+ * <p>
+ * Entries of unnamed types, entries saved before types had names and entries saved with the index of their type are
+ * only decoded from their value, by trying each of the mod's types in turn.
+ */
 public class TypedEntrySerializer<T> implements JsonSerializer<TypedEntry<T>>, JsonDeserializer<TypedEntry<T>> {
 
+	public static final String TYPE_KEY = "type";
+	public static final String VALUE_KEY = "value";
+
 	private final String modId;
 
 	public TypedEntrySerializer(String modId) {
@@ -41,7 +50,25 @@ public class TypedEntrySerializer<T> implements JsonSerializer<TypedEntry<T>>, J
 
 	@Override
 	public TypedEntry<T> deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-		var modEntry = getFromRegistry(json, ConfigRegistry.getForMod(this.modId));
+		TypedEntry<T> modEntry = null;
+		if (isTyped(json)) {
+			JsonObject object = json.getAsJsonObject();
+			JsonElement value = object.get(VALUE_KEY);
+			JsonPrimitive type = object.getAsJsonPrimitive(TYPE_KEY);
+			if (type.isString()) {
+				var entryType = ConfigRegistry.getForMod(this.modId, type.getAsString());
+				if (entryType != null) {
+					modEntry = getFromType(value, entryType);
+				}
+			}
+			// saved with the index of its type, which isn't stable, or its type has been renamed since
+			if (modEntry == null) {
+				modEntry = getFromRegistry(value, ConfigRegistry.getForMod(this.modId));
+			}
+		}
+		if (modEntry == null) {
+			modEntry = getFromRegistry(json, ConfigRegistry.getForMod(this.modId));
+		}
 		if (modEntry != null) {
 			return modEntry;
 		} else {
@@ -50,6 +77,13 @@ public class TypedEntrySerializer<T> implements JsonSerializer<TypedEntry<T>>, J
 		}
 	}
 
+	private static boolean isTyped(JsonElement json) {
+		if (json instanceof JsonObject object && object.size() == 2 && object.has(VALUE_KEY)) {
+			return object.get(TYPE_KEY) instanceof JsonPrimitive type && (type.isString() || type.isNumber());
+		}
+		return false;
+	}
+
 	private TypedEntry<T> getFromRegistry(JsonElement json, Collection<TypedEntryType<?>> registry) {
 		for (var entryType : registry) {
 			var entry = getFromType(json, entryType);
@@ -94,7 +128,13 @@ public class TypedEntrySerializer<T> implements JsonSerializer<TypedEntry<T>>, J
 						if (encoded != null && encoded.error().isEmpty()) {
 							var optional = encoded.result();
 							if (optional.isPresent()) {
-								return optional.get();
+								if (type.name() == null) {
+									return optional.get();
+								}
+								JsonObject json = new JsonObject();
+								json.addProperty(TYPE_KEY, type.name());
+								json.add(VALUE_KEY, optional.get());
+								return json;
 							}
 						}
 					}
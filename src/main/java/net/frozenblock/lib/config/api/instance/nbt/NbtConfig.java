@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.config.api.instance.nbt;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.mojang.serialization.JsonOps;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import net.frozenblock.lib.FrozenMain;
+import net.frozenblock.lib.config.api.instance.Config;
+import net.frozenblock.lib.config.api.instance.GsonUtils;
+import net.frozenblock.lib.file.nbt.NbtFileUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Serializes and deserializes config data with GSON and NBT.
+ * <p>
+ * The config is converted to a GSON tree and then to NBT, so it supports the same types as a {@link net.frozenblock.lib.config.api.instance.json.JsonConfig}.
+ */
+public class NbtConfig<T> extends Config<T> {
+
+	public static final String EXTENSION = "nbt";
+
+	private final Gson gson;
+	private final boolean compressed;
+
+	/**
+	 * The hash of the file's bytes as of the last load or save, so saving the same content again can be skipped.
+	 */
+	@Nullable
+	private volatile HashCode fileHash;
+
+	public NbtConfig(String modId, Class<T> config) {
+		this(modId, config, true);
+	}
+
+	public NbtConfig(String modId, Class<T> config, boolean compressed) {
+		this(modId, config, compressed, new GsonBuilder());
+	}
+
+	public NbtConfig(String modId, Class<T> config, boolean compressed, GsonBuilder builder) {
+		this(modId, config, makePath(modId, EXTENSION), compressed, builder);
+	}
+
+	public NbtConfig(String modId, Class<T> config, Path path, boolean compressed, GsonBuilder builder) {
+		super(modId, config, path);
+
+		// NBT stores booleans as bytes
+		builder.registerTypeAdapter(Boolean.class, BooleanAdapter.INSTANCE);
+		builder.registerTypeAdapter(boolean.class, BooleanAdapter.INSTANCE);
+		this.gson = GsonUtils.createGson(builder, modId);
+
+		this.compressed = compressed;
+	}
+
+	@Override
+	public void save() {
+		try {
+			byte[] bytes = NbtFileUtils.toBytes(this.toTag(this.config()), this.compressed);
+			HashCode hash = Hashing.murmur3_128().hashBytes(bytes);
+			if (hash.equals(this.fileHash) && Files.exists(this.path())) {
+				return;
+			}
+			FrozenMain.LOGGER.info("Saving config {}", this.configClass().getSimpleName());
+			NbtFileUtils.writeAtomically(this.path(), bytes);
+			this.fileHash = hash;
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	@Override
+	public boolean load() {
+		FrozenMain.LOGGER.info("Loading config {}", this.configClass().getSimpleName());
+		if (Files.exists(this.path())) {
+			try {
+				CompoundTag tag = NbtFileUtils.read(this.path());
+				if (tag != null) {
+					this.setConfig(this.fromTag(tag));
+					// what saving the loaded config writes, which is the file's content unless it was written by something else
+					this.fileHash = Hashing.murmur3_128().hashBytes(NbtFileUtils.toBytes(tag, this.compressed));
+				}
+				return true;
+			} catch (IOException e) {
+				e.printStackTrace();
+				return false;
+			}
+		} else {
+			return true;
+		}
+	}
+
+	@Override
+	public boolean reload() {
+		if (!Files.exists(this.path())) {
+			return false;
+		}
+		try {
+			byte[] bytes = Files.readAllBytes(this.path());
+			// saving the config changes the file too
+			if (Hashing.murmur3_128().hashBytes(bytes).equals(this.fileHash)) {
+				return false;
+			}
+			FrozenMain.LOGGER.info("Reloading config {}", this.configClass().getSimpleName());
+			this.load(bytes);
+			return true;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	private void load(byte[] bytes) throws IOException {
+		this.setConfig(this.fromTag(NbtFileUtils.read(bytes)));
+		this.fileHash = Hashing.murmur3_128().hashBytes(bytes);
+	}
+
+	private T fromTag(CompoundTag tag) {
+		return this.gson.fromJson(NbtOps.INSTANCE.convertTo(JsonOps.INSTANCE, tag), this.configClass());
+	}
+
+	private CompoundTag toTag(T config) throws IOException {
+		Tag tag = JsonOps.INSTANCE.convertTo(NbtOps.INSTANCE, withoutNulls(this.gson.toJsonTree(config)));
+		if (tag instanceof CompoundTag compoundTag) {
+			return compoundTag;
+		}
+		throw new IOException("Config " + this.configClass().getSimpleName() + " wasn't serialized to an object");
+	}
+
+	/**
+	 * NBT has no null, so null fields are left out and keep their default value when loaded.
+	 */
+	private static JsonElement withoutNulls(JsonElement element) {
+		if (element instanceof JsonObject object) {
+			JsonObject json = new JsonObject();
+			for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+				if (!entry.getValue().isJsonNull()) {
+					json.add(entry.getKey(), withoutNulls(entry.getValue()));
+				}
+			}
+			return json;
+		}
+		if (element instanceof JsonArray array) {
+			JsonArray json = new JsonArray(array.size());
+			for (JsonElement value : array) {
+				if (!value.isJsonNull()) {
+					json.add(withoutNulls(value));
+				}
+			}
+			return json;
+		}
+		return element;
+	}
+
+	private static class BooleanAdapter extends TypeAdapter<Boolean> {
+		private static final BooleanAdapter INSTANCE = new BooleanAdapter();
+
+		@Override
+		public void write(JsonWriter out, Boolean value) throws IOException {
+			out.value(value);
+		}
+
+		@Override
+		public Boolean read(JsonReader in) throws IOException {
+			JsonToken token = in.peek();
+			return switch (token) {
+				case NULL -> {
+					in.nextNull();
+					yield null;
+				}
+				case NUMBER -> in.nextInt() != 0;
+				case STRING -> Boolean.parseBoolean(in.nextString());
+				default -> in.nextBoolean();
+			};
+		}
+	}
+}
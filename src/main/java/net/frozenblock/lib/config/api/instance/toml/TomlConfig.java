@@ -52,10 +52,6 @@ class TomlConfig<T> extends Config<T> {
 	public TomlConfig(String modId, Class<T> config, Path path, TomlWriter.Builder builder) {
 		super(modId, config, path);
 		this.tomlWriter = builder.build();
-
-		if (this.load()) {
-			this.save();
-		}
 	}
 
 	@Override
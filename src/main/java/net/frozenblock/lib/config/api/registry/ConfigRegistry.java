@@ -18,38 +18,92 @@
 
 package net.frozenblock.lib.config.api.registry;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.lib.config.api.ConfigEvents;
 import net.frozenblock.lib.config.api.entry.TypedEntryType;
 import net.frozenblock.lib.config.api.instance.Config;
+import net.frozenblock.lib.config.impl.ConfigDiff;
+import net.frozenblock.lib.config.impl.ConfigFileWatcher;
+import org.jetbrains.annotations.Nullable;
 
 public class ConfigRegistry {
 
 	private static final List<Config<?>> CONFIG_REGISTRY = new ArrayList<>();
 
-	private static final Map<String, List<TypedEntryType<?>>> MOD_TYPED_ENTRY_REGISTRY = new HashMap<>();
-	private static final List<TypedEntryType<?>> TYPED_ENTRY_REGISTRY = new ArrayList<>();
+	/**
+	 * Loads registered configs in parallel. Its threads stop once there is nothing left to load.
+	 */
+	private static final ThreadPoolExecutor LOADER = createLoader();
 
+	// read by configs loading on other threads
+	private static final Map<String, List<TypedEntryType<?>>> MOD_TYPED_ENTRY_REGISTRY = new ConcurrentHashMap<>();
+	private static final List<TypedEntryType<?>> TYPED_ENTRY_REGISTRY = new CopyOnWriteArrayList<>();
+	/**
+	 * Each mod's named typed entry types by their name, which is what typed entries are saved with.
+	 */
+	private static final Map<String, Map<String, TypedEntryType<?>>> MOD_NAMED_TYPED_ENTRIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers the config, which is loaded by {@link #awaitLoading()} or on its first use, whichever comes first.
+	 * <p>
+	 * Loading doesn't start here, as configs are usually registered from a static initializer,
+	 * and loading them on another thread would wait for that same class to finish initializing.
+	 */
 	public static <T> Config<T> register(Config<T> config) {
 		if (CONFIG_REGISTRY.contains(config)) {
 			throw new IllegalStateException("Config already registered.");
 		}
 		CONFIG_REGISTRY.add(config);
+		ConfigFileWatcher.watch(config.path(), () -> reload(config));
 		return config;
 	}
 
+	/**
+	 * Reloads the config from its file, and triggers {@link ConfigEvents#CHANGED} if any of its values changed.
+	 */
+	public static <T> void reload(Config<T> config) {
+		T oldConfig = config.config();
+		if (config.reload()) {
+			List<ConfigEvents.FieldChange> changes = ConfigDiff.diff(oldConfig, config.config());
+			if (!changes.isEmpty()) {
+				ConfigEvents.CHANGED.invoker().onConfigChanged(config, changes);
+			}
+		}
+	}
+
+	/**
+	 * Loads every registered config that hasn't been loaded yet in parallel, and waits for all of them to finish.
+	 */
+	public static void awaitLoading() {
+		CompletableFuture.allOf(CONFIG_REGISTRY.stream().map(config -> config.startLoading(LOADER)).toArray(CompletableFuture[]::new)).join();
+	}
+
 	public static boolean contains(Config<?> config) {
 		return CONFIG_REGISTRY.contains(config);
 	}
 
-	public static <T> TypedEntryType<T> register(TypedEntryType<T> entry) {
+	public static synchronized <T> TypedEntryType<T> register(TypedEntryType<T> entry) {
 		if (TYPED_ENTRY_REGISTRY.contains(entry)) {
 			throw new IllegalStateException("Typed entry already registered.");
 		}
-		MOD_TYPED_ENTRY_REGISTRY.computeIfAbsent(entry.modId(), key -> new ArrayList<>()).add(entry);
+		if (entry.name() != null) {
+			Map<String, TypedEntryType<?>> named = MOD_NAMED_TYPED_ENTRIES.computeIfAbsent(entry.modId(), key -> new ConcurrentHashMap<>());
+			if (named.putIfAbsent(entry.name(), entry) != null) {
+				throw new IllegalStateException("Typed entry name " + entry.name() + " already registered for " + entry.modId() + ".");
+			}
+		}
+		MOD_TYPED_ENTRY_REGISTRY.computeIfAbsent(entry.modId(), key -> new CopyOnWriteArrayList<>()).add(entry);
 		TYPED_ENTRY_REGISTRY.add(entry);
 		return entry;
 	}
@@ -59,10 +113,29 @@ public class ConfigRegistry {
 	}
 
 	public static Collection<TypedEntryType<?>> getForMod(String modId) {
-		return Map.copyOf(MOD_TYPED_ENTRY_REGISTRY).getOrDefault(modId, new ArrayList<>());
+		return Collections.unmodifiableList(MOD_TYPED_ENTRY_REGISTRY.getOrDefault(modId, List.of()));
+	}
+
+	/**
+	 * @return the mod's type registered with the specified name, or null if there is none.
+	 */
+	@Nullable
+	public static TypedEntryType<?> getForMod(String modId, String name) {
+		Map<String, TypedEntryType<?>> named = MOD_NAMED_TYPED_ENTRIES.get(modId);
+		return named != null ? named.get(name) : null;
 	}
 
 	public static Collection<TypedEntryType<?>> getAll() {
 		return TYPED_ENTRY_REGISTRY;
 	}
+
+	private static ThreadPoolExecutor createLoader() {
+		int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			threads, threads, 5L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+			new ThreadFactoryBuilder().setNameFormat("FrozenLib Config Loader #%d").setDaemon(true).build()
+		);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
 }
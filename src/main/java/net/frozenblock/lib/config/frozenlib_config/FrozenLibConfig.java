@@ -28,8 +28,10 @@ import me.shedaniel.clothconfig2.api.ConfigBuilder;
 import me.shedaniel.clothconfig2.api.ConfigEntryBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.loader.api.FabricLoader;
 import net.frozenblock.lib.FrozenMain;
 import net.frozenblock.lib.config.frozenlib_config.getter.FrozenLibConfigValues;
+import net.frozenblock.lib.config.impl.ConfigFileWatcher;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 
@@ -41,30 +43,49 @@ public class FrozenLibConfig extends PartitioningSerializer.GlobalData {
     public final FrozenLibConfigCategory config = new FrozenLibConfigCategory();
 
     public static FrozenLibConfig get() {
-        if (!FrozenMain.areConfigsInit) {
-            AutoConfig.register(FrozenLibConfig.class, PartitioningSerializer.wrap(GsonConfigSerializer::new));
+        init();
+        return AutoConfig.getConfigHolder(FrozenLibConfig.class).getConfig();
+    }
+
+	/**
+	 * Loads the config and starts watching its file, if that hasn't happened yet.
+	 */
+	public static synchronized void init() {
+		if (!FrozenMain.areConfigsInit) {
+			AutoConfig.register(FrozenLibConfig.class, PartitioningSerializer.wrap(GsonConfigSerializer::new));
 			FrozenMain.areConfigsInit = true;
-			FrozenLibConfigValues.CONFIG = new FrozenLibConfigValues.FrozenConfigGetter(
-					new FrozenLibConfigValues.ConfigInterface() {
-						@Override
-						public boolean useWindOnNonFrozenServers() {
-							return FrozenLibConfig.get().config.useWindOnNonFrozenServers;
-						}
+			// reads the config holder live, so it only has to be set once
+			FrozenLibConfigValues.setConfig(createGetter());
+			ConfigFileWatcher.watch(FabricLoader.getInstance().getConfigDir().resolve(FrozenMain.MOD_ID).resolve("config.json"), () -> {
+				AutoConfig.getConfigHolder(FrozenLibConfig.class).load();
+				FrozenLibConfigValues.updateSnapshot();
+			});
+		}
+	}
 
-						@Override
-						public boolean saveItemCooldowns() {
-							return FrozenLibConfig.get().config.saveItemCooldowns;
-						}
+	private static FrozenLibConfigValues.FrozenConfigGetter createGetter() {
+		return new FrozenLibConfigValues.FrozenConfigGetter(
+				new FrozenLibConfigValues.ConfigInterface() {
+					@Override
+					public boolean useWindOnNonFrozenServers() {
+						return FrozenLibConfig.get().config.useWindOnNonFrozenServers;
 					}
-			);
-        }
-        return AutoConfig.getConfigHolder(FrozenLibConfig.class).getConfig();
-    }
+
+					@Override
+					public boolean saveItemCooldowns() {
+						return FrozenLibConfig.get().config.saveItemCooldowns;
+					}
+				}
+		);
+	}
 
     @Environment(EnvType.CLIENT)
     public static Screen buildScreen(Screen parent) {
         var configBuilder = ConfigBuilder.create().setParentScreen(parent).setTitle(text("component.title"));
-        configBuilder.setSavingRunnable(() -> AutoConfig.getConfigHolder(FrozenLibConfig.class).save());
+        configBuilder.setSavingRunnable(() -> {
+			AutoConfig.getConfigHolder(FrozenLibConfig.class).save();
+			FrozenLibConfigValues.updateSnapshot();
+		});
         var config = configBuilder.getOrCreateCategory(text("config"));
         ConfigEntryBuilder entryBuilder = configBuilder.entryBuilder();
         FrozenLibConfigCategory.setupEntries(config, entryBuilder);
@@ -18,8 +18,23 @@
 
 package net.frozenblock.lib.config.frozenlib_config.getter;
 
+import net.frozenblock.lib.config.api.instance.ConfigSnapshot;
+
 public class FrozenLibConfigValues {
-	public static FrozenConfigGetter CONFIG = new FrozenConfigGetter(
+	/**
+	 * The current values, for code that reads them every tick.
+	 * <p>
+	 * Rebuilt from {@link #CONFIG} by {@link #setConfig(FrozenConfigGetter)} and {@link #updateSnapshot()}.
+	 */
+	public static final ConfigSnapshot<Snapshot> SNAPSHOT = new ConfigSnapshot<>(
+			new Snapshot(DefaultFrozenLibConfigValues.USE_WIND_ON_NON_FROZENLIB_SERVERS, DefaultFrozenLibConfigValues.SAVE_ITEM_COOLDOWNS)
+	);
+
+	/**
+	 * @deprecated Assigning this directly leaves {@link #SNAPSHOT} out of date, use {@link #setConfig(FrozenConfigGetter)} instead.
+	 */
+	@Deprecated
+	public static volatile FrozenConfigGetter CONFIG = new FrozenConfigGetter(
 			new ConfigInterface() {
 				@Override
 				public boolean useWindOnNonFrozenServers() {
@@ -33,10 +48,30 @@ public class FrozenLibConfigValues {
 			}
 	);
 
+	/**
+	 * Replaces the config getter and rebuilds {@link #SNAPSHOT} from it.
+	 */
+	@SuppressWarnings("deprecation")
+	public static synchronized void setConfig(FrozenConfigGetter config) {
+		CONFIG = config;
+		updateSnapshot();
+	}
+
+	/**
+	 * Rebuilds {@link #SNAPSHOT} from the current config getter, for when the values behind it have changed.
+	 */
+	@SuppressWarnings("deprecation")
+	public static synchronized void updateSnapshot() {
+		ConfigInterface getter = CONFIG.getter();
+		SNAPSHOT.set(new Snapshot(getter.useWindOnNonFrozenServers(), getter.saveItemCooldowns()));
+	}
 
 	public record FrozenConfigGetter(ConfigInterface getter) {
 	}
 
+	public record Snapshot(boolean useWindOnNonFrozenServers, boolean saveItemCooldowns) {
+	}
+
 	public static class DefaultFrozenLibConfigValues {
 		public static final boolean USE_WIND_ON_NON_FROZENLIB_SERVERS = true;
 		public static final boolean SAVE_ITEM_COOLDOWNS = true;
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.config.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.frozenblock.lib.config.api.ConfigEvents;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Finds which fields differ between two instances of a config class.
+ */
+@ApiStatus.Internal
+public final class ConfigDiff {
+	private static final int MAX_DEPTH = 8;
+
+	private ConfigDiff() {
+		throw new UnsupportedOperationException("ConfigDiff contains only static declarations.");
+	}
+
+	/**
+	 * Compares the public fields of both instances.
+	 * Fields holding other config objects are compared field by field, and reported with dotted names.
+	 */
+	public static List<ConfigEvents.FieldChange> diff(Object oldConfig, Object newConfig) {
+		List<ConfigEvents.FieldChange> changes = new ArrayList<>();
+		diff("", oldConfig, newConfig, changes, 0);
+		return changes;
+	}
+
+	private static void diff(String prefix, @Nullable Object oldConfig, @Nullable Object newConfig, List<ConfigEvents.FieldChange> changes, int depth) {
+		Class<?> type = newConfig != null ? newConfig.getClass() : oldConfig != null ? oldConfig.getClass() : null;
+		if (type == null) {
+			return;
+		}
+		for (Field field : type.getFields()) {
+			if (Modifier.isStatic(field.getModifiers())) {
+				continue;
+			}
+			String name = prefix + field.getName();
+			Object oldValue = get(field, oldConfig);
+			Object newValue = get(field, newConfig);
+			if (depth < MAX_DEPTH && isNested(field.getType()) && oldValue != null && newValue != null) {
+				diff(name + ".", oldValue, newValue, changes, depth + 1);
+			} else if (!Objects.deepEquals(oldValue, newValue)) {
+				changes.add(new ConfigEvents.FieldChange(name, field.getType(), oldValue, newValue));
+			}
+		}
+	}
+
+	/**
+	 * Values of these types are compared as a whole, everything else is treated as a nested config object.
+	 */
+	private static boolean isNested(Class<?> type) {
+		return !type.isPrimitive() && !type.isArray() && !type.isEnum() && !type.isRecord() && !type.isInterface()
+			&& !type.getName().startsWith("java.");
+	}
+
+	@Nullable
+	private static Object get(Field field, @Nullable Object instance) {
+		if (instance == null || !field.getDeclaringClass().isInstance(instance)) {
+			return null;
+		}
+		try {
+			return field.get(instance);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.config.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.lib.FrozenMain;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Watches config files and reloads them when they change on disk.
+ * <p>
+ * Reloads run on a single background thread, once a file has gone unchanged for {@link #DEBOUNCE_MILLIS}.
+ */
+@ApiStatus.Internal
+public final class ConfigFileWatcher {
+	private static final long DEBOUNCE_MILLIS = 500L;
+
+	private static final Map<Path, Runnable> RELOADERS = new ConcurrentHashMap<>();
+	private static final Set<Path> WATCHED_DIRECTORIES = ConcurrentHashMap.newKeySet();
+	private static final Map<Path, ScheduledFuture<?>> PENDING_RELOADS = new ConcurrentHashMap<>();
+	private static WatchService watchService;
+	private static ScheduledExecutorService reloader;
+
+	private ConfigFileWatcher() {
+		throw new UnsupportedOperationException("ConfigFileWatcher contains only static declarations.");
+	}
+
+	/**
+	 * Runs the reload whenever the file is created or modified.
+	 */
+	public static synchronized void watch(Path file, Runnable reload) {
+		Path path = file.toAbsolutePath().normalize();
+		Path directory = path.getParent();
+		if (directory == null) {
+			return;
+		}
+		RELOADERS.put(path, reload);
+		try {
+			if (watchService == null) {
+				start();
+			}
+			if (!WATCHED_DIRECTORIES.contains(directory)) {
+				Files.createDirectories(directory);
+				directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+				WATCHED_DIRECTORIES.add(directory);
+			}
+		} catch (IOException e) {
+			FrozenMain.LOGGER.error("Unable to watch config file {}", path, e);
+		}
+	}
+
+	private static void start() throws IOException {
+		watchService = FileSystems.getDefault().newWatchService();
+		reloader = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("FrozenLib Config Reloader").setDaemon(true).build());
+		new ThreadFactoryBuilder().setNameFormat("FrozenLib Config Watcher").setDaemon(true).build().newThread(ConfigFileWatcher::run).start();
+	}
+
+	private static void run() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			Path directory = (Path) key.watchable();
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.context() instanceof Path name) {
+					Path file = directory.resolve(name);
+					Runnable reload = RELOADERS.get(file);
+					if (reload != null) {
+						schedule(file, reload);
+					}
+				}
+			}
+			key.reset();
+		}
+	}
+
+	private static void schedule(Path file, Runnable reload) {
+		// editors often write a file several times in a row, so only the last change is reloaded
+		PENDING_RELOADS.compute(file, (path, pending) -> {
+			if (pending != null) {
+				pending.cancel(false);
+			}
+			return reloader.schedule(() -> {
+				try {
+					reload.run();
+				} catch (Exception e) {
+					FrozenMain.LOGGER.error("Unable to reload config file {}", path, e);
+				}
+			}, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+		});
+	}
+}
@@ -18,11 +18,8 @@
 
 package net.frozenblock.lib.entity.api.rendering;
 
-import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicBoolean;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.registry.api.FrozenRegistry;
 import net.frozenblock.lib.registry.api.client.FrozenClientRegistry;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.Registry;
@@ -43,28 +40,7 @@ public record EntityTextureOverride<T extends LivingEntity>(EntityType<T> type,
 	}
 
 	public static <T extends LivingEntity> EntityTextureOverride<T> register(ResourceLocation key, EntityType<T> type, ResourceLocation texture, boolean caseSensitive, String... names) {
-		return register(key, type, texture, (entity) -> {
-			String entityName = ChatFormatting.stripFormatting(entity.getName().getString());
-			AtomicBoolean isNameCorrect = new AtomicBoolean(false);
-			if (names.length == 0) {
-				return true;
-			} else {
-				Arrays.stream(names).toList().forEach(name -> {
-					if (entityName != null) {
-						if (caseSensitive) {
-							if (entityName.equalsIgnoreCase(name)) {
-								isNameCorrect.set(true);
-							}
-						} else {
-							if (entityName.equals(name)) {
-								isNameCorrect.set(true);
-							}
-						}
-					}
-				});
-			}
-			return isNameCorrect.get();
-		});
+		return register(key, type, texture, new NameCondition<>(caseSensitive, names));
 	}
 
 	public static <T extends LivingEntity> EntityTextureOverride<T> register(ResourceLocation key, EntityType<T> type, ResourceLocation texture, Condition<T> condition) {
@@ -76,4 +52,37 @@ public record EntityTextureOverride<T extends LivingEntity>(EntityType<T> type,
 	public interface Condition<T extends LivingEntity> {
 		boolean condition(T entity);
 	}
+
+	/**
+	 * A {@link Condition} that only depends on the entity's name.
+	 * <p>
+	 * Overrides using it can have their result cached per entity until the entity's custom name changes.
+	 */
+	@Environment(EnvType.CLIENT)
+	public static final class NameCondition<T extends LivingEntity> implements Condition<T> {
+		private final boolean caseSensitive;
+		private final String[] names;
+
+		public NameCondition(boolean caseSensitive, String... names) {
+			this.caseSensitive = caseSensitive;
+			this.names = names.clone();
+		}
+
+		@Override
+		public boolean condition(T entity) {
+			if (this.names.length == 0) {
+				return true;
+			}
+			String entityName = ChatFormatting.stripFormatting(entity.getName().getString());
+			if (entityName == null) {
+				return false;
+			}
+			for (String name : this.names) {
+				if (this.caseSensitive ? entityName.equalsIgnoreCase(name) : entityName.equals(name)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
 }
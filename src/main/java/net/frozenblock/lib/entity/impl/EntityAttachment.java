@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.entity.impl;
+
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Data attached to a single entity, such as its looping sounds or screen shakes.
+ * <p>
+ * Attachments are only created once something is added to them, and only tick through {@link EntityAttachments} while they have data.
+ */
+@ApiStatus.Internal
+public interface EntityAttachment {
+
+	Entity getAttachedEntity();
+
+	/**
+	 * @return whether this attachment has nothing to tick or save.
+	 */
+	boolean isEmpty();
+
+	void tick();
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.entity.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Keeps track of the {@link EntityAttachment}s in each level that have data, so only those are ticked.
+ * <p>
+ * Attachments are held weakly, as entities that are never added to a level never leave it either.
+ */
+@ApiStatus.Internal
+public final class EntityAttachments {
+
+	private static final Map<ResourceKey<Level>, EntityAttachments> LEVELS = new HashMap<>();
+
+	private final Set<EntityAttachment> active = Collections.newSetFromMap(new WeakHashMap<>());
+	/**
+	 * Attachments that became active while this level was ticking its attachments.
+	 */
+	private final List<EntityAttachment> added = new ArrayList<>();
+	private boolean ticking;
+
+	private EntityAttachments() {
+	}
+
+	/**
+	 * Starts ticking the specified attachment in its entity's level. Does nothing on the client.
+	 */
+	public static void markActive(EntityAttachment attachment) {
+		if (attachment.getAttachedEntity().level instanceof ServerLevel level) {
+			EntityAttachments attachments = LEVELS.computeIfAbsent(level.dimension(), key -> new EntityAttachments());
+			if (attachments.ticking) {
+				attachments.added.add(attachment);
+			} else {
+				attachments.active.add(attachment);
+			}
+		}
+	}
+
+	public static void tick(ServerLevel level) {
+		EntityAttachments attachments = LEVELS.get(level.dimension());
+		if (attachments != null) {
+			attachments.tickActive(level);
+		}
+	}
+
+	private void tickActive(ServerLevel level) {
+		this.ticking = true;
+		Iterator<EntityAttachment> iterator = this.active.iterator();
+		while (iterator.hasNext()) {
+			EntityAttachment attachment = iterator.next();
+			Entity entity = attachment.getAttachedEntity();
+			if (entity.isRemoved() || entity.level != level) {
+				iterator.remove();
+				if (!entity.isRemoved() && !attachment.isEmpty()) {
+					markActive(attachment);
+				}
+			} else if (level.getEntity(entity.getId()) == entity && level.isPositionEntityTicking(entity.blockPosition())) {
+				attachment.tick();
+				if (attachment.isEmpty()) {
+					iterator.remove();
+				}
+			}
+		}
+		this.ticking = false;
+		if (!this.added.isEmpty()) {
+			this.active.addAll(this.added);
+			this.added.clear();
+		}
+	}
+
+	public static void clear() {
+		LEVELS.clear();
+	}
+}
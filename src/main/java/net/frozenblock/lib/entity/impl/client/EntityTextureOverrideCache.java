@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.entity.impl.client;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.entity.api.rendering.EntityTextureOverride;
+import net.minecraft.locale.Language;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public interface EntityTextureOverrideCache {
+
+	@Nullable
+	EntityTextureOverride<?> frozenLib$getCachedOverride();
+
+	@Nullable
+	Component frozenLib$getCachedOverrideName();
+
+	@Nullable
+	Language frozenLib$getCachedOverrideLanguage();
+
+	int frozenLib$getCachedOverrideGeneration();
+
+	void frozenLib$setCachedOverride(@Nullable EntityTextureOverride<?> override, @Nullable Component name, @Nullable Language language, int generation);
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.entity.impl.client;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.entity.api.rendering.EntityTextureOverride;
+import net.frozenblock.lib.registry.api.client.FrozenClientRegistry;
+import net.minecraft.locale.Language;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Buckets the {@link FrozenClientRegistry#ENTITY_TEXTURE_OVERRIDE} registry by {@link EntityType}.
+ * <p>
+ * The index is rebuilt when the registry freezes, or lazily if an override is registered afterwards.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class EntityTextureOverrideIndex {
+
+	private static volatile Index INDEX = new Index(Map.of(), -1, 0);
+
+	private EntityTextureOverrideIndex() {
+		throw new UnsupportedOperationException("EntityTextureOverrideIndex contains only static declarations.");
+	}
+
+	public static void rebuild() {
+		Map<EntityType<?>, List<EntityTextureOverride<?>>> grouped = new IdentityHashMap<>();
+		for (EntityTextureOverride<?> override : FrozenClientRegistry.ENTITY_TEXTURE_OVERRIDE) {
+			if (override.texture() != null) {
+				grouped.computeIfAbsent(override.type(), type -> new ArrayList<>()).add(override);
+			}
+		}
+
+		Map<EntityType<?>, Bucket> buckets = new IdentityHashMap<>(grouped.size());
+		for (Map.Entry<EntityType<?>, List<EntityTextureOverride<?>>> entry : grouped.entrySet()) {
+			EntityTextureOverride<?>[] overrides = entry.getValue().toArray(new EntityTextureOverride<?>[0]);
+			boolean nameOnly = true;
+			for (EntityTextureOverride<?> override : overrides) {
+				nameOnly &= override.condition() instanceof EntityTextureOverride.NameCondition;
+			}
+			buckets.put(entry.getKey(), new Bucket(overrides, nameOnly));
+		}
+		INDEX = new Index(buckets, FrozenClientRegistry.ENTITY_TEXTURE_OVERRIDE.size(), INDEX.generation() + 1);
+	}
+
+	/**
+	 * @return the override to use for the specified entity, or null if none of its type's conditions are met.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public static <T extends LivingEntity> EntityTextureOverride<T> getOverride(T entity) {
+		Index index = INDEX;
+		if (index.registrySize() != FrozenClientRegistry.ENTITY_TEXTURE_OVERRIDE.size()) {
+			rebuild();
+			index = INDEX;
+		}
+
+		Bucket bucket = index.buckets().get(entity.getType());
+		if (bucket == null) {
+			return null;
+		}
+
+		if (bucket.nameOnly() && entity instanceof EntityTextureOverrideCache cache) {
+			// the name is either the custom name, which is replaced whenever it changes, or comes from the language
+			Component customName = entity.getCustomName();
+			Language language = Language.getInstance();
+			if (cache.frozenLib$getCachedOverrideGeneration() == index.generation()
+				&& cache.frozenLib$getCachedOverrideName() == customName
+				&& cache.frozenLib$getCachedOverrideLanguage() == language
+			) {
+				return (EntityTextureOverride<T>) cache.frozenLib$getCachedOverride();
+			}
+			EntityTextureOverride<T> override = resolve(bucket, entity);
+			cache.frozenLib$setCachedOverride(override, customName, language, index.generation());
+			return override;
+		}
+
+		return resolve(bucket, entity);
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static <T extends LivingEntity> EntityTextureOverride<T> resolve(Bucket bucket, T entity) {
+		EntityTextureOverride<?>[] overrides = bucket.overrides();
+		// later registrations take priority over earlier ones
+		for (int i = overrides.length - 1; i >= 0; i--) {
+			EntityTextureOverride<T> override = (EntityTextureOverride<T>) overrides[i];
+			if (override.condition().condition(entity)) {
+				return override;
+			}
+		}
+		return null;
+	}
+
+	private record Index(Map<EntityType<?>, Bucket> buckets, int registrySize, int generation) {
+	}
+
+	/**
+	 * @param nameOnly	Whether every override in this bucket only depends on the entity's name, making the result cacheable per entity.
+	 */
+	private record Bucket(EntityTextureOverride<?>[] overrides, boolean nameOnly) {
+	}
+}
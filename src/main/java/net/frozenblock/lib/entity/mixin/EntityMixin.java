@@ -21,8 +21,12 @@ package net.frozenblock.lib.entity.mixin;
 import net.frozenblock.lib.entity.impl.EntityStepOnBlockInterface;
 import net.frozenblock.lib.entity.impl.FrozenStartTrackingEntityInterface;
 import net.frozenblock.lib.screenshake.impl.EntityScreenShakeInterface;
+import net.frozenblock.lib.screenshake.impl.EntityScreenShakeManager;
+import net.frozenblock.lib.sound.api.MovingLoopingFadingDistanceSoundEntityManager;
+import net.frozenblock.lib.sound.api.MovingLoopingSoundEntityManager;
 import net.frozenblock.lib.sound.impl.EntityLoopingFadingDistanceSoundInterface;
 import net.frozenblock.lib.sound.impl.EntityLoopingSoundInterface;
+import net.frozenblock.lib.spotting_icons.api.SpottingIconManager;
 import net.frozenblock.lib.spotting_icons.impl.EntitySpottingIconInterface;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerPlayer;
@@ -53,10 +57,22 @@ public class EntityMixin implements FrozenStartTrackingEntityInterface, EntitySt
 	@Override
 	public void frozenLib$playerStartsTracking(ServerPlayer serverPlayer) {
 		Entity entity = Entity.class.cast(this);
-		((EntityLoopingSoundInterface)entity).getSoundManager().syncWithPlayer(serverPlayer);
-		((EntityLoopingFadingDistanceSoundInterface)entity).getFadingSoundManager().syncWithPlayer(serverPlayer);
-		((EntitySpottingIconInterface)entity).getSpottingIconManager().sendIconPacket(serverPlayer);
-		((EntityScreenShakeInterface)entity).getScreenShakeManager().syncWithPlayer(serverPlayer);
+		MovingLoopingSoundEntityManager soundManager = ((EntityLoopingSoundInterface)entity).getSoundManagerIfPresent();
+		if (soundManager != null) {
+			soundManager.syncWithPlayer(serverPlayer);
+		}
+		MovingLoopingFadingDistanceSoundEntityManager fadingSoundManager = ((EntityLoopingFadingDistanceSoundInterface)entity).getFadingSoundManagerIfPresent();
+		if (fadingSoundManager != null) {
+			fadingSoundManager.syncWithPlayer(serverPlayer);
+		}
+		SpottingIconManager iconManager = ((EntitySpottingIconInterface)entity).getSpottingIconManagerIfPresent();
+		if (iconManager != null) {
+			iconManager.sendIconPacket(serverPlayer);
+		}
+		EntityScreenShakeManager screenShakeManager = ((EntityScreenShakeInterface)entity).getScreenShakeManagerIfPresent();
+		if (screenShakeManager != null) {
+			screenShakeManager.syncWithPlayer(serverPlayer);
+		}
 	}
 
 	@Inject(method = "move", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/Block;stepOn(Lnet/minecraft/world/level/Level;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/state/BlockState;Lnet/minecraft/world/entity/Entity;)V", shift = At.Shift.AFTER), locals = LocalCapture.CAPTURE_FAILHARD)
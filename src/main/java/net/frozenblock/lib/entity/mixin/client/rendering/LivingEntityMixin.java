@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.entity.mixin.client.rendering;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.entity.api.rendering.EntityTextureOverride;
+import net.frozenblock.lib.entity.impl.client.EntityTextureOverrideCache;
+import net.minecraft.locale.Language;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.LivingEntity;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+@Environment(EnvType.CLIENT)
+@Mixin(LivingEntity.class)
+public class LivingEntityMixin implements EntityTextureOverrideCache {
+
+	@Unique
+	@Nullable
+	private EntityTextureOverride<?> frozenLib$cachedOverride;
+	@Unique
+	@Nullable
+	private Component frozenLib$cachedOverrideName;
+	@Unique
+	@Nullable
+	private Language frozenLib$cachedOverrideLanguage;
+	@Unique
+	private int frozenLib$cachedOverrideGeneration = -1;
+
+	@Unique
+	@Nullable
+	@Override
+	public EntityTextureOverride<?> frozenLib$getCachedOverride() {
+		return this.frozenLib$cachedOverride;
+	}
+
+	@Unique
+	@Nullable
+	@Override
+	public Component frozenLib$getCachedOverrideName() {
+		return this.frozenLib$cachedOverrideName;
+	}
+
+	@Unique
+	@Nullable
+	@Override
+	public Language frozenLib$getCachedOverrideLanguage() {
+		return this.frozenLib$cachedOverrideLanguage;
+	}
+
+	@Unique
+	@Override
+	public int frozenLib$getCachedOverrideGeneration() {
+		return this.frozenLib$cachedOverrideGeneration;
+	}
+
+	@Unique
+	@Override
+	public void frozenLib$setCachedOverride(@Nullable EntityTextureOverride<?> override, @Nullable Component name, @Nullable Language language, int generation) {
+		this.frozenLib$cachedOverride = override;
+		this.frozenLib$cachedOverrideName = name;
+		this.frozenLib$cachedOverrideLanguage = language;
+		this.frozenLib$cachedOverrideGeneration = generation;
+	}
+
+}
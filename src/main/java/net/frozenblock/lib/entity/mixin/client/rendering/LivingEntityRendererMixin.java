@@ -20,16 +20,18 @@ package net.frozenblock.lib.entity.mixin.client.rendering;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.registry.api.FrozenRegistry;
-import net.frozenblock.lib.registry.api.client.FrozenClientRegistry;
+import net.frozenblock.lib.entity.api.rendering.EntityTextureOverride;
+import net.frozenblock.lib.entity.impl.client.EntityTextureOverrideIndex;
 import net.minecraft.client.model.EntityModel;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.LivingEntityRenderer;
 import net.minecraft.world.entity.LivingEntity;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
@@ -41,51 +43,43 @@ public abstract class LivingEntityRendererMixin<T extends LivingEntity, M extend
     @Shadow
 	protected M model;
 
+	@Unique
+	@Nullable
+	private EntityTextureOverride<T> frozenLib$override;
+
 	protected LivingEntityRendererMixin(EntityRendererProvider.Context context) {
 		super(context);
 	}
 
+	@Inject(method = "getRenderType", at = @At("HEAD"))
+	private void frozenLib$getOverride(T livingEntity, boolean bodyVisible, boolean translucent, boolean glowing, CallbackInfoReturnable<RenderType> cir) {
+		// looked up once here for whichever of the render types below is used
+		this.frozenLib$override = EntityTextureOverrideIndex.getOverride(livingEntity);
+	}
+
 	@Inject(method = "getRenderType", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/model/EntityModel;renderType(Lnet/minecraft/resources/ResourceLocation;)Lnet/minecraft/client/renderer/RenderType;"), cancellable = true)
     private void getEasterEgg(T livingEntity, boolean bodyVisible, boolean translucent, boolean glowing, CallbackInfoReturnable<RenderType> cir) {
-        FrozenClientRegistry.ENTITY_TEXTURE_OVERRIDE.forEach(override -> {
-            if (override.type() == livingEntity.getType()) {
-                var texture = override.texture();
-                if (texture != null) {
-                    if (override.condition().condition(livingEntity)) {
-                        cir.setReturnValue(this.model.renderType(texture));
-                    }
-                }
-            }
-        });
+		EntityTextureOverride<T> override = this.frozenLib$override;
+		if (override != null) {
+			cir.setReturnValue(this.model.renderType(override.texture()));
+		}
     }
 
     @Inject(method = "getRenderType", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/renderer/RenderType;itemEntityTranslucentCull(Lnet/minecraft/resources/ResourceLocation;)Lnet/minecraft/client/renderer/RenderType;"), cancellable = true)
     private void getItemEasterEgg(T livingEntity, boolean bodyVisible, boolean translucent, boolean glowing, CallbackInfoReturnable<RenderType> cir) {
-		FrozenClientRegistry.ENTITY_TEXTURE_OVERRIDE.forEach(override -> {
-            if (override.type() == livingEntity.getType()) {
-                var texture = override.texture();
-                if (texture != null) {
-                    if (override.condition().condition(livingEntity)) {
-                        cir.setReturnValue(RenderType.itemEntityTranslucentCull(texture));
-                    }
-                }
-            }
-        });
+		EntityTextureOverride<T> override = this.frozenLib$override;
+		if (override != null) {
+			cir.setReturnValue(RenderType.itemEntityTranslucentCull(override.texture()));
+		}
     }
 
     @Inject(method = "getRenderType", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/renderer/RenderType;outline(Lnet/minecraft/resources/ResourceLocation;)Lnet/minecraft/client/renderer/RenderType;", shift = At.Shift.BEFORE), cancellable = true)
     private void getOutlineEasterEgg(T livingEntity, boolean bodyVisible, boolean translucent, boolean glowing, CallbackInfoReturnable<RenderType> cir) {
         if (glowing) {
-			FrozenClientRegistry.ENTITY_TEXTURE_OVERRIDE.forEach(override -> {
-                if (override.type() == livingEntity.getType()) {
-                    var texture = override.texture();
-                    if (texture != null) {
-                        if (override.condition().condition(livingEntity)) {
-                            cir.setReturnValue(RenderType.outline(texture));
-                        }
-                    }
-                }
-            });
+			EntityTextureOverride<T> override = this.frozenLib$override;
+			if (override != null) {
+				cir.setReturnValue(RenderType.outline(override.texture()));
+			}
         }
     }
 
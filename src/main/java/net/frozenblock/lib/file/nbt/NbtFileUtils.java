@@ -22,15 +22,44 @@ import com.mojang.logging.LogUtils;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.StreamTagVisitor;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.visitors.CollectFields;
+import net.minecraft.nbt.visitors.FieldSelector;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 public class NbtFileUtils {
 	private static final Logger LOGGER = LogUtils.getLogger();
 	public static final File CONFIG_PATH = FabricLoader.getInstance().getConfigDir().toFile();
 
+	/**
+	 * Uncompressed files at least this large are memory mapped instead of being read through a buffer.
+	 */
+	public static final long MAPPED_READ_THRESHOLD = 1L << 20;
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int GZIP_MAGIC = 0x8B1F;
+
 	public static void saveToConfigFile(CompoundTag compoundTag, String fileName) {
 		CONFIG_PATH.mkdirs();
 		saveToFile(compoundTag, new File(CONFIG_PATH, withNBTExtension(fileName)));
@@ -43,9 +72,8 @@ public class NbtFileUtils {
 	}
 
 	public static void saveToFile(CompoundTag compoundTag, File file) {
-		file.mkdirs();
 		try {
-			NbtIo.writeCompressed(compoundTag, file);
+			write(compoundTag, file.toPath(), true);
 		} catch (IOException iOException) {
 			LOGGER.error("Could not save data {}", file, iOException);
 		}
@@ -65,7 +93,7 @@ public class NbtFileUtils {
 	public static CompoundTag readFromFile(File file) {
 		CompoundTag compoundTag = null;
 		try {
-			compoundTag = NbtIo.read(file);
+			compoundTag = read(file.toPath());
 		} catch (IOException iOException) {
 			LOGGER.error("Could not read data {}", file, iOException);
 		}
@@ -76,4 +104,180 @@ public class NbtFileUtils {
 		return string + ".nbt";
 	}
 
+	/**
+	 * Writes the tag to a temporary file next to the path, then moves it over the path.
+	 * <p>
+	 * The file at the path is never left half written, even if the game crashes while saving.
+	 */
+	public static void write(CompoundTag compoundTag, Path path, boolean compressed) throws IOException {
+		replaceAtomically(path, output -> writeTo(compoundTag, output, compressed));
+	}
+
+	/**
+	 * Writes already encoded bytes, like the ones from {@link #toBytes(CompoundTag, boolean)}, the same way as {@link #write(CompoundTag, Path, boolean)}.
+	 */
+	public static void writeAtomically(Path path, byte[] bytes) throws IOException {
+		replaceAtomically(path, output -> output.write(bytes));
+	}
+
+	public static byte[] toBytes(CompoundTag compoundTag, boolean compressed) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		writeTo(compoundTag, output, compressed);
+		return output.toByteArray();
+	}
+
+	/**
+	 * Reads a compressed or uncompressed file.
+	 *
+	 * @return the tag, or null if the file doesn't exist.
+	 */
+	@Nullable
+	public static CompoundTag read(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			return null;
+		}
+		return readFile(path, NbtIo::read);
+	}
+
+	public static CompoundTag read(byte[] bytes) throws IOException {
+		InputStream input = new ByteArrayInputStream(bytes);
+		if (isCompressed(bytes)) {
+			input = new BufferedInputStream(new GZIPInputStream(input, BUFFER_SIZE), BUFFER_SIZE);
+		}
+		return NbtIo.read(new DataInputStream(input));
+	}
+
+	/**
+	 * Streams a compressed or uncompressed file into the visitor without building the whole tag,
+	 * so the visitor can skip the parts it doesn't need.
+	 */
+	public static void parse(Path path, StreamTagVisitor visitor) throws IOException {
+		readFile(path, input -> {
+			NbtIo.parse(input, visitor);
+			return null;
+		});
+	}
+
+	/**
+	 * Only decodes the selected fields of a file.
+	 *
+	 * @return a tag with the selected fields, or null if the file doesn't exist or none were found.
+	 */
+	@Nullable
+	public static CompoundTag readFields(Path path, FieldSelector... selectors) throws IOException {
+		if (!Files.exists(path)) {
+			return null;
+		}
+		CollectFields collector = new CollectFields(selectors);
+		parse(path, collector);
+		Tag result = collector.getResult();
+		return result instanceof CompoundTag compoundTag ? compoundTag : null;
+	}
+
+	private static void writeTo(CompoundTag compoundTag, OutputStream output, boolean compressed) throws IOException {
+		OutputStream stream = compressed ? new GZIPOutputStream(output, BUFFER_SIZE) : output;
+		DataOutputStream dataOutput = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+		NbtIo.write(compoundTag, dataOutput);
+		dataOutput.flush();
+		if (stream instanceof GZIPOutputStream gzip) {
+			gzip.finish();
+		}
+	}
+
+	private static void replaceAtomically(Path path, OutputWriter writer) throws IOException {
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream output = Files.newOutputStream(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				writer.write(output);
+			}
+			try {
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static <R> R readFile(Path path, InputReader<R> reader) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			InputStream input;
+			if (isCompressed(channel)) {
+				input = new BufferedInputStream(new GZIPInputStream(Channels.newInputStream(channel), BUFFER_SIZE), BUFFER_SIZE);
+			} else if (size >= MAPPED_READ_THRESHOLD && size <= Integer.MAX_VALUE) {
+				input = new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+			} else {
+				input = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+			}
+			return reader.read(new DataInputStream(input));
+		}
+	}
+
+	private static boolean isCompressed(FileChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(2);
+		// reads at absolute positions, so the channel is still at the start of the file afterwards
+		while (header.hasRemaining()) {
+			int read = channel.read(header, header.position());
+			if (read <= 0) {
+				return false;
+			}
+		}
+		return (header.get(0) & 0xFF | (header.get(1) & 0xFF) << 8) == GZIP_MAGIC;
+	}
+
+	private static boolean isCompressed(byte[] bytes) {
+		return bytes.length >= 2 && (bytes[0] & 0xFF | (bytes[1] & 0xFF) << 8) == GZIP_MAGIC;
+	}
+
+	@FunctionalInterface
+	private interface OutputWriter {
+		void write(OutputStream output) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface InputReader<R> {
+		R read(DataInputStream input) throws IOException;
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			int read = Math.min(length, this.buffer.remaining());
+			this.buffer.get(bytes, offset, read);
+			return read;
+		}
+
+		@Override
+		public long skip(long n) {
+			int skipped = (int) Math.max(0, Math.min(n, this.buffer.remaining()));
+			this.buffer.position(this.buffer.position() + skipped);
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return this.buffer.remaining();
+		}
+	}
 }
@@ -44,9 +44,10 @@ public class SaveableItemCooldowns {
 	public static ArrayList<SaveableCooldownInstance> makeSaveableCooldownInstanceList(@NotNull ServerPlayer player) {
 		ArrayList<SaveableCooldownInstance> saveableCooldownInstances = new ArrayList<>();
 		int tickCount = player.getCooldowns().tickCount;
+		boolean saveItemCooldowns = FrozenLibConfigValues.SNAPSHOT.get().saveItemCooldowns();
 		player.getCooldowns().cooldowns.forEach(
 				((item, cooldownInstance) -> {
-					if (item.builtInRegistryHolder().is(FrozenItemTags.ALWAYS_SAVE_COOLDOWNS) || FrozenLibConfigValues.CONFIG.getter().saveItemCooldowns()) {
+					if (saveItemCooldowns || item.builtInRegistryHolder().is(FrozenItemTags.ALWAYS_SAVE_COOLDOWNS)) {
 						saveableCooldownInstances.add(SaveableCooldownInstance.makeFromCooldownInstance(item, cooldownInstance, tickCount));
 					}
 				})
@@ -18,6 +18,10 @@
 
 package net.frozenblock.lib.math.api;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.function.LongFunction;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.util.RandomSource;
@@ -27,6 +31,7 @@ import net.minecraft.world.level.levelgen.LegacyRandomSource;
 import net.minecraft.world.level.levelgen.SingleThreadedRandomSource;
 import net.minecraft.world.level.levelgen.ThreadSafeLegacyRandomSource;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.synth.ImprovedNoise;
 import net.minecraft.world.phys.Vec3;
 
@@ -41,6 +46,62 @@ public final class EasyNoiseSampler {
 		throw new UnsupportedOperationException("EasyNoiseSampler contains only static declarations.");
 	}
 
+	/**
+	 * Immutable samplers for each seed and {@link NoiseType}, shared between worldgen threads.
+	 */
+	private static final LoadingCache<SamplerKey, ImprovedNoise> SAMPLERS = CacheBuilder.newBuilder()
+		.maximumSize(64)
+		.build(CacheLoader.from(key -> key.type().create(key.seed())));
+
+	/**
+	 * @return an {@link ImprovedNoise} for the specified seed, which is safe to use from any thread.
+	 */
+	public static ImprovedNoise getSampler(long seed, NoiseType type) {
+		return SAMPLERS.getUnchecked(new SamplerKey(seed, type));
+	}
+
+	/**
+	 * @return an {@link ImprovedNoise} for the seed of the context's level, which is safe to use from any thread.
+	 */
+	public static ImprovedNoise getSampler(FeaturePlaceContext<?> context, NoiseType type) {
+		return getSampler(context.level().getSeed(), type);
+	}
+
+	public enum NoiseType {
+		LOCAL(SingleThreadedRandomSource::new),
+		CHECKED(LegacyRandomSource::new),
+		THREAD_SAFE(ThreadSafeLegacyRandomSource::new),
+		XORO(XoroshiroRandomSource::new);
+
+		private final LongFunction<RandomSource> randomFactory;
+
+		NoiseType(LongFunction<RandomSource> randomFactory) {
+			this.randomFactory = randomFactory;
+		}
+
+		public ImprovedNoise create(long seed) {
+			return new ImprovedNoise(this.randomFactory.apply(seed));
+		}
+
+		/**
+		 * @param id	The noise id used by feature configs: 1 is local, 2 is checked, 3 is thread safe and anything else is xoroshiro.
+		 */
+		public static NoiseType byId(int id) {
+			return switch (id) {
+				case 1 -> LOCAL;
+				case 2 -> CHECKED;
+				case 3 -> THREAD_SAFE;
+				default -> XORO;
+			};
+		}
+	}
+
+	private record SamplerKey(long seed, NoiseType type) {
+	}
+
+	/**
+	 * The samplers below are shared global state. Use {@link #getSampler(long, NoiseType)} during worldgen instead.
+	 */
     public static long seed = 0;
     public static RandomSource checkedRandom = new LegacyRandomSource(seed);
     public static RandomSource threadSafeRandom = new ThreadSafeLegacyRandomSource(seed);
@@ -24,10 +24,15 @@ import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.lib.FrozenMain;
@@ -49,6 +54,11 @@ import org.slf4j.Logger;
 
 public class ScreenShakeManager {
 	private final ArrayList<ScreenShake> shakes = new ArrayList<>();
+	private final List<ScreenShake> shakesView = Collections.unmodifiableList(this.shakes);
+	/**
+	 * Active shakes bucketed by the chunk they are in, along with the players watching that chunk.
+	 */
+	private final Long2ObjectOpenHashMap<ChunkShakes> chunkShakes = new Long2ObjectOpenHashMap<>();
 	private final ServerLevel level;
 
 	public ScreenShakeManager(ServerLevel level) {
@@ -56,38 +66,106 @@ public class ScreenShakeManager {
 	}
 
 	public void tick() {
-		this.getShakes().removeIf(ScreenShake::shouldRemove);
-		for (ScreenShake shake : this.getShakes()) {
-			if (this.level.getChunkSource().hasChunk(shake.chunkPos.x, shake.chunkPos.z)) {
-				shake.ticks += 1;
-				Collection<ServerPlayer> playersTrackingChunk = PlayerLookup.tracking(this.level, shake.chunkPos);
-				for (ServerPlayer serverPlayer : playersTrackingChunk) {
-					if (!shake.trackingPlayers.contains(serverPlayer)) {
-						ScreenShakeManager.sendScreenShakePacketTo(serverPlayer, shake.getIntensity(), shake.getDuration(), shake.getDurationFalloffStart(), shake.getPos().x(), shake.getPos().y(), shake.getPos().z(), shake.getMaxDistance(), shake.getTicks());
+		if (this.chunkShakes.isEmpty()) {
+			return;
+		}
+		this.shakes.removeIf(ScreenShake::shouldRemove);
+		ObjectIterator<ChunkShakes> iterator = this.chunkShakes.values().iterator();
+		while (iterator.hasNext()) {
+			ChunkShakes chunk = iterator.next();
+			chunk.shakes.removeIf(ScreenShake::shouldRemove);
+			if (chunk.shakes.isEmpty()) {
+				iterator.remove();
+			} else if (this.isChunkLoaded(chunk.chunkPos)) {
+				if (chunk.watchingPlayers.removeIf(ServerPlayer::hasDisconnected)) {
+					chunk.updateTrackingPlayers();
+				}
+				for (ScreenShake shake : chunk.shakes) {
+					shake.ticks += 1;
+					if (!shake.sentToWatchingPlayers) {
+						shake.sentToWatchingPlayers = true;
+						if (!chunk.watchingPlayers.isEmpty()) {
+							FriendlyByteBuf byteBuf = createScreenShakeByteBuf(shake);
+							for (ServerPlayer serverPlayer : chunk.watchingPlayers) {
+								ServerPlayNetworking.send(serverPlayer, FrozenMain.SCREEN_SHAKE_PACKET, byteBuf);
+							}
+						}
 					}
 				}
-				shake.trackingPlayers.clear();
-				shake.trackingPlayers.addAll(playersTrackingChunk);
+			}
+		}
+	}
+
+	/**
+	 * Called when a player starts or stops watching a chunk in this manager's level.
+	 */
+	public void onChunkWatchChanged(ServerPlayer player, ChunkPos chunkPos, boolean watching) {
+		ChunkShakes chunk = this.chunkShakes.get(chunkPos.toLong());
+		if (chunk != null) {
+			if (watching) {
+				if (chunk.watchingPlayers.add(player)) {
+					chunk.updateTrackingPlayers();
+					for (ScreenShake shake : chunk.shakes) {
+						// shakes that haven't been sent yet will be sent to every watching player next tick
+						if (shake.sentToWatchingPlayers && !shake.shouldRemove()) {
+							ServerPlayNetworking.send(player, FrozenMain.SCREEN_SHAKE_PACKET, createScreenShakeByteBuf(shake));
+						}
+					}
+				}
+			} else if (chunk.watchingPlayers.remove(player)) {
+				chunk.updateTrackingPlayers();
 			}
 		}
 	}
 
 	public void addShake(float intensity, int duration, int falloffStart, Vec3 pos, float maxDistance, int ticks) {
-		this.getShakes().add(new ScreenShake(intensity, duration, falloffStart, pos, maxDistance, ticks));
+		this.addShake(new ScreenShake(intensity, duration, falloffStart, pos, maxDistance, ticks));
+	}
+
+	@SuppressWarnings("deprecation")
+	private void addShake(ScreenShake shake) {
+		this.shakes.add(shake);
+		ChunkShakes chunk = this.chunkShakes.get(shake.chunkPos.toLong());
+		if (chunk == null) {
+			chunk = new ChunkShakes(shake.chunkPos, this.getTrackingPlayers(shake.chunkPos));
+			this.chunkShakes.put(shake.chunkPos.toLong(), chunk);
+		}
+		chunk.shakes.add(shake);
+		shake.trackingPlayers.addAll(chunk.watchingPlayers);
+	}
+
+	private boolean isChunkLoaded(ChunkPos chunkPos) {
+		return this.level.getChunkSource().hasChunk(chunkPos.x, chunkPos.z);
+	}
+
+	private Collection<ServerPlayer> getTrackingPlayers(ChunkPos chunkPos) {
+		return PlayerLookup.tracking(this.level, chunkPos);
+	}
+
+	/**
+	 * @return an unmodifiable view of the active shakes, use {@link #addShake(float, int, int, Vec3, float, int)} and
+	 * {@link #clearShakes()} to change them.
+	 */
+	public List<ScreenShake> getShakes() {
+		return this.shakesView;
 	}
 
-	public ArrayList<ScreenShake> getShakes() {
-		return this.shakes;
+	/**
+	 * Removes every active shake, players already shaking keep shaking until their shake finishes.
+	 */
+	public void clearShakes() {
+		this.shakes.clear();
+		this.chunkShakes.clear();
 	}
 
 	public void load(CompoundTag nbt) {
 		if (nbt.contains("ScreenShakes", 9)) {
-			this.getShakes().clear();
+			this.clearShakes();
 			DataResult<List<ScreenShake>> var10000 = ScreenShake.CODEC.listOf().parse(new Dynamic<>(NbtOps.INSTANCE, nbt.getList("ScreenShakes", 10)));
 			Logger var10001 = FrozenMain.LOGGER4;
 			Objects.requireNonNull(var10001);
 			Optional<List<ScreenShake>> list = var10000.resultOrPartial(var10001::error);
-			list.ifPresent(this.getShakes()::addAll);
+			list.ifPresent(loadedShakes -> loadedShakes.forEach(this::addShake));
 		}
 	}
 
@@ -106,8 +184,16 @@ public class ScreenShakeManager {
 		public final float maxDistance;
 		public int ticks;
 
-		public ArrayList<ServerPlayer> trackingPlayers = new ArrayList<>();
 		public final ChunkPos chunkPos;
+		private boolean sentToWatchingPlayers;
+
+		/**
+		 * A copy of the players watching this shake's chunk, updated whenever they change.
+		 *
+		 * @deprecated watching players are now tracked per chunk by the {@link ScreenShakeManager}, and changing this list has no effect.
+		 */
+		@Deprecated
+		public ArrayList<ServerPlayer> trackingPlayers = new ArrayList<>();
 
 		public static final Codec<ScreenShake> CODEC = RecordCodecBuilder.create((instance) -> instance.group(
 				Codec.FLOAT.fieldOf("Intensity").forGetter(ScreenShake::getIntensity),
@@ -158,6 +244,25 @@ public class ScreenShakeManager {
 
 	}
 
+	private static class ChunkShakes {
+		private final ChunkPos chunkPos;
+		private final List<ScreenShake> shakes = new ArrayList<>();
+		private final Set<ServerPlayer> watchingPlayers;
+
+		private ChunkShakes(ChunkPos chunkPos, Collection<ServerPlayer> watchingPlayers) {
+			this.chunkPos = chunkPos;
+			this.watchingPlayers = new ReferenceOpenHashSet<>(watchingPlayers);
+		}
+
+		@SuppressWarnings("deprecation")
+		private void updateTrackingPlayers() {
+			for (ScreenShake shake : this.shakes) {
+				shake.trackingPlayers.clear();
+				shake.trackingPlayers.addAll(this.watchingPlayers);
+			}
+		}
+	}
+
 	public static ScreenShakeManager getScreenShakeManager(ServerLevel level) {
 		return ((ScreenShakeManagerInterface)level).frozenLib$getScreenShakeManager();
 	}
@@ -193,6 +298,10 @@ public class ScreenShakeManager {
 		ServerPlayNetworking.send(player, FrozenMain.SCREEN_SHAKE_PACKET, createScreenShakeByteBuf(intensity, duration, falloffStart, x, y, z, maxDistance, ticks));
 	}
 
+	private static FriendlyByteBuf createScreenShakeByteBuf(ScreenShake shake) {
+		return createScreenShakeByteBuf(shake.getIntensity(), shake.getDuration(), shake.getDurationFalloffStart(), shake.getPos().x(), shake.getPos().y(), shake.getPos().z(), shake.getMaxDistance(), shake.getTicks());
+	}
+
 	public static FriendlyByteBuf createScreenShakeByteBuf(float intensity, int duration, int falloffStart, double x, double y, double z, float maxDistance, int ticks) {
 		FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
 		byteBuf.writeFloat(intensity);
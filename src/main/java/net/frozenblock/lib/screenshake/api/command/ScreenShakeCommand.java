@@ -31,6 +31,7 @@ import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.lib.FrozenMain;
 import net.frozenblock.lib.screenshake.api.ScreenShakeManager;
 import net.frozenblock.lib.screenshake.impl.EntityScreenShakeInterface;
+import net.frozenblock.lib.screenshake.impl.EntityScreenShakeManager;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.EntityArgument;
@@ -114,11 +115,12 @@ public class ScreenShakeCommand {
 		int entityAmount = 0;
 		List<Entity> affectedEntities = new ArrayList<>();
 		for (Entity entity : entities) {
-			if (!((EntityScreenShakeInterface)entity).getScreenShakeManager().getShakes().isEmpty()) {
+			EntityScreenShakeManager entityScreenShakeManager = ((EntityScreenShakeInterface)entity).getScreenShakeManagerIfPresent();
+			if (entityScreenShakeManager != null && !entityScreenShakeManager.getShakes().isEmpty()) {
 				FriendlyByteBuf friendlyByteBuf = new FriendlyByteBuf(Unpooled.buffer());
 				friendlyByteBuf.writeVarInt(entity.getId());
 				affectedEntities.add(entity);
-				((EntityScreenShakeInterface)entity).getScreenShakeManager().getShakes().clear();
+				entityScreenShakeManager.getShakes().clear();
 				for (ServerPlayer serverPlayer : PlayerLookup.tracking(source.getLevel(), entity.blockPosition())) {
 					ServerPlayNetworking.send(serverPlayer, FrozenMain.REMOVE_ENTITY_SCREEN_SHAKES_PACKET, friendlyByteBuf);
 				}
@@ -20,6 +20,7 @@ package net.frozenblock.lib.screenshake.impl;
 
 import net.minecraft.world.entity.Entity;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.qsl.frozenblock.core.base.api.util.InjectedInterface;
 
 @ApiStatus.Internal
@@ -28,6 +29,9 @@ public interface EntityScreenShakeInterface {
 
     EntityScreenShakeManager getScreenShakeManager();
 
+    @Nullable
+    EntityScreenShakeManager getScreenShakeManagerIfPresent();
+
     void addScreenShake(float intensity, int duration, int durationFalloffStart, float maxDistance, int ticks);
 
 }
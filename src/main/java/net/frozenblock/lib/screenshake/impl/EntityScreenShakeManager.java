@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import net.frozenblock.lib.FrozenMain;
+import net.frozenblock.lib.entity.impl.EntityAttachment;
+import net.frozenblock.lib.entity.impl.EntityAttachments;
 import net.frozenblock.lib.screenshake.api.ScreenShakeManager;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
@@ -35,7 +37,7 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import org.slf4j.Logger;
 
-public class EntityScreenShakeManager {
+public class EntityScreenShakeManager implements EntityAttachment {
     private final ArrayList<EntityScreenShake> shakes = new ArrayList<>();
     public Entity entity;
 
@@ -51,6 +53,9 @@ public class EntityScreenShakeManager {
             Objects.requireNonNull(var10001);
             Optional<List<EntityScreenShake>> list = var10000.resultOrPartial(var10001::error);
 			list.ifPresent(this.shakes::addAll);
+			if (!this.shakes.isEmpty()) {
+				EntityAttachments.markActive(this);
+			}
         }
     }
 
@@ -63,8 +68,20 @@ public class EntityScreenShakeManager {
 
     public void addShake(float intensity, int duration, int durationFalloffStart, float maxDistance, int ticks) {
         this.shakes.add(new EntityScreenShake(intensity, duration, durationFalloffStart, maxDistance, ticks));
+		EntityAttachments.markActive(this);
     }
 
+	@Override
+	public Entity getAttachedEntity() {
+		return this.entity;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.shakes.isEmpty();
+	}
+
+	@Override
     public void tick() {
 		this.shakes.removeIf(EntityScreenShake::shouldRemove);
 		for (EntityScreenShake entityScreenShake : this.shakes) {
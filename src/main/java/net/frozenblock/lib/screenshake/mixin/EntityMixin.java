@@ -22,8 +22,7 @@ import net.frozenblock.lib.screenshake.impl.EntityScreenShakeInterface;
 import net.frozenblock.lib.screenshake.impl.EntityScreenShakeManager;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -34,38 +33,36 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(Entity.class)
 public class EntityMixin implements EntityScreenShakeInterface {
 
-	@Unique
+	@Unique @Nullable
     public EntityScreenShakeManager frozenLib$entityScreenShakeManager;
 
-    @Inject(method = "<init>", at = @At("TAIL"))
-    private void frozenLib$setScreenShakeManager(EntityType<? extends Entity> entityType, Level level, CallbackInfo info) {
-        Entity entity = Entity.class.cast(this);
-        this.frozenLib$entityScreenShakeManager = new EntityScreenShakeManager(entity);
-    }
-
     @Inject(method = "saveWithoutId", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;addAdditionalSaveData(Lnet/minecraft/nbt/CompoundTag;)V", shift = At.Shift.AFTER))
     public void frozenLib$saveScreenShakeData(CompoundTag compoundTag, CallbackInfoReturnable<CompoundTag> info) {
-        if (this.frozenLib$entityScreenShakeManager != null) {
+        if (this.frozenLib$entityScreenShakeManager != null && !this.frozenLib$entityScreenShakeManager.isEmpty()) {
             this.frozenLib$entityScreenShakeManager.save(compoundTag);
         }
     }
 
 	@Inject(method = "load", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;readAdditionalSaveData(Lnet/minecraft/nbt/CompoundTag;)V", shift = At.Shift.AFTER))
     public void frozenLib$loadScreenShaleData(CompoundTag compoundTag, CallbackInfo info) {
-        this.frozenLib$entityScreenShakeManager.load(compoundTag);
-    }
-
-    @Inject(method = "tick", at = @At("TAIL"))
-    public void frozenLib$tickScreenShake(CallbackInfo info) {
-		Entity entity = Entity.class.cast(this);
-        if (!entity.level.isClientSide) {
-            this.frozenLib$entityScreenShakeManager.tick();
-        }
+		if (compoundTag.contains("ScreenShakes", 9)) {
+			this.getScreenShakeManager().load(compoundTag);
+		}
     }
 
 	@Unique
 	@Override
 	public EntityScreenShakeManager getScreenShakeManager() {
+		if (this.frozenLib$entityScreenShakeManager == null) {
+			this.frozenLib$entityScreenShakeManager = new EntityScreenShakeManager(Entity.class.cast(this));
+		}
+		return this.frozenLib$entityScreenShakeManager;
+	}
+
+	@Unique
+	@Override
+	@Nullable
+	public EntityScreenShakeManager getScreenShakeManagerIfPresent() {
 		return this.frozenLib$entityScreenShakeManager;
 	}
 
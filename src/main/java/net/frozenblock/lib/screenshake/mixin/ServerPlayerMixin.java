@@ -49,19 +49,23 @@ public class ServerPlayerMixin {
 
 	@Inject(method = "tick", at = @At(value = "TAIL"))
 	public void frozenLib$syncScreenShakes(CallbackInfo info) {
-		EntityScreenShakeManager entityScreenShakeManager = ((EntityScreenShakeInterface)ServerPlayer.class.cast(this)).getScreenShakeManager();
 		if (!this.frozenLib$hasSyncedScreenShakes && this.connection != null && this.connection.getConnection().isConnected() && !this.isChangingDimension) {
-			entityScreenShakeManager.syncWithPlayer(ServerPlayer.class.cast(this));
+			EntityScreenShakeManager entityScreenShakeManager = ((EntityScreenShakeInterface)ServerPlayer.class.cast(this)).getScreenShakeManagerIfPresent();
+			if (entityScreenShakeManager != null) {
+				entityScreenShakeManager.syncWithPlayer(ServerPlayer.class.cast(this));
+			}
 			this.frozenLib$hasSyncedScreenShakes = true;
 		}
 	}
 
 	@Inject(method = "changeDimension", at = @At(value = "HEAD"))
 	public void frozenLib$changeDimensionSaveScreenShakes(ServerLevel destination, CallbackInfoReturnable<Entity> info) {
-		CompoundTag tempTag = new CompoundTag();
-		EntityScreenShakeManager entityScreenShakeManager = ((EntityScreenShakeInterface)ServerPlayer.class.cast(this)).getScreenShakeManager();
-		entityScreenShakeManager.save(tempTag);
-		this.frozenLib$savedScreenShakesTag = tempTag;
+		EntityScreenShakeManager entityScreenShakeManager = ((EntityScreenShakeInterface)ServerPlayer.class.cast(this)).getScreenShakeManagerIfPresent();
+		if (entityScreenShakeManager != null && !entityScreenShakeManager.isEmpty()) {
+			CompoundTag tempTag = new CompoundTag();
+			entityScreenShakeManager.save(tempTag);
+			this.frozenLib$savedScreenShakesTag = tempTag;
+		}
 	}
 
 	@Inject(method = "changeDimension", at = @At(value = "RETURN"))
@@ -69,6 +73,7 @@ public class ServerPlayerMixin {
 		if (this.frozenLib$savedScreenShakesTag != null) {
 			EntityScreenShakeManager entityScreenShakeManager = ((EntityScreenShakeInterface)ServerPlayer.class.cast(this)).getScreenShakeManager();
 			entityScreenShakeManager.load(this.frozenLib$savedScreenShakesTag);
+			this.frozenLib$savedScreenShakesTag = null;
 			this.frozenLib$hasSyncedScreenShakes = false;
 		}
 	}
@@ -18,11 +18,17 @@
 
 package net.frozenblock.lib.sound.api;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.frozenblock.lib.sound.mixin.client.ClientLevelAccessor;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.resources.sounds.EntityBoundSoundInstance;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
@@ -31,67 +37,185 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Plays a sound when a tracked entity flies past the player.
+ * <p>
+ * Entities are tracked by their ID with pooled state, and are dropped as soon as they're unloaded.
+ */
 @Environment(EnvType.CLIENT)
 public class FlyBySoundHub {
 
     public static final Map<EntityType<?>, FlyBySound> AUTO_ENTITIES_AND_SOUNDS = new HashMap<>();
 
+    /**
+     * @deprecated use {@link #addEntity(Entity, FlyBySound)} instead.
+     * Entities put in here are moved over to be tracked on the next update, and this map doesn't reflect the tracked entities.
+     */
+    @Deprecated
     public static final Map<Entity, FlyBySound> FLYBY_ENTITIES_AND_SOUNDS = new HashMap<>();
+    /**
+     * @deprecated cooldowns are now kept with each tracked entity, and this map is no longer used.
+     */
+    @Deprecated
     public static final Map<Entity, Integer> ENTITY_COOLDOWNS = new HashMap<>();
-    private static int checkAroundCooldown;
 
-    public static void update(Minecraft client, Player player, boolean autoSounds) {
-        for (Entity entity : FLYBY_ENTITIES_AND_SOUNDS.keySet()) {
-            if (client.level == null) {
-                FLYBY_ENTITIES_AND_SOUNDS.clear();
-                return;
-            }
-            if (entity != null) {
-                Vec3 vel = entity.getDeltaMovement();
-                Vec3 playerVel = player.getDeltaMovement();
-                Vec3 entityPos = entity.position();
-                Vec3 playerPos = player.getEyePosition();
-                double distanceTo = entityPos.distanceTo(playerPos);
-                double newDistanceTo = entityPos.add(vel).add(vel).distanceTo(playerPos.add(playerVel));
-
-                int cooldown = ENTITY_COOLDOWNS.getOrDefault(entity, 0) - 1;
-                ENTITY_COOLDOWNS.put(entity, cooldown);
-                if ((distanceTo > newDistanceTo && distanceTo < (vel.lengthSqr() + playerVel.length()) * 2) && cooldown <= 0) {
-                    FlyBySound flyBy = FLYBY_ENTITIES_AND_SOUNDS.get(entity);
-                    float volume = (float) (flyBy.volume + (vel.length() / 2));
-                    client.getSoundManager().play(new EntityBoundSoundInstance(flyBy.sound, flyBy.category, volume, flyBy.pitch, entity, client.level.random.nextLong()));
-                    ENTITY_COOLDOWNS.put(entity, 40);
-                }
+    private static final int COOLDOWN = 40;
+    private static final double MAX_DISTANCE_SQR = 16D * 16D;
+    private static final int CHECK_AROUND_RADIUS = 3;
+
+    private static final Int2ObjectOpenHashMap<Tracked> TRACKED_BY_ID = new Int2ObjectOpenHashMap<>();
+    // iterated by index every tick, so no iterator is allocated
+    private static final ObjectArrayList<Tracked> TRACKED = new ObjectArrayList<>();
+    private static final ArrayDeque<Tracked> POOL = new ArrayDeque<>();
+
+    private static int checkAroundCooldown;
+    private static long checkAroundCenter = Long.MIN_VALUE;
+    @Nullable
+    private static AABB checkAroundBox;
+    @Nullable
+    private static Player checkAroundPlayer;
+    private static final Consumer<Entity> CHECK_AROUND = entity -> {
+        if (entity != checkAroundPlayer) {
+            FlyBySound flyBySound = AUTO_ENTITIES_AND_SOUNDS.get(entity.getType());
+            if (flyBySound != null) {
+                addEntity(entity, flyBySound);
             }
         }
-        //Remove Entities That Aren't Active
-        for (Entity entity : FLYBY_ENTITIES_AND_SOUNDS.keySet().stream().toList()) {
-            if (entity == null || entity.isRemoved() || entity.isSilent() || (entity.distanceTo(client.getCameraEntity()) > 16 && !AUTO_ENTITIES_AND_SOUNDS.containsKey(entity.getType()))) {
-                FLYBY_ENTITIES_AND_SOUNDS.remove(entity);
+    };
+
+    @SuppressWarnings("deprecation")
+    public static void update(Minecraft client, @Nullable Player player, boolean autoSounds) {
+        if (!FLYBY_ENTITIES_AND_SOUNDS.isEmpty()) {
+            FLYBY_ENTITIES_AND_SOUNDS.forEach(FlyBySoundHub::addEntity);
+            FLYBY_ENTITIES_AND_SOUNDS.clear();
+        }
+
+        ClientLevel level = client.level;
+        if (level == null || player == null) {
+            clear();
+            return;
+        }
+
+        Vec3 playerVel = player.getDeltaMovement();
+        double playerSpeed = playerVel.length();
+        // the player's position next tick
+        double playerX = player.getX() + playerVel.x;
+        double playerY = player.getEyeY() + playerVel.y;
+        double playerZ = player.getZ() + playerVel.z;
+        Entity camera = client.getCameraEntity();
+
+        for (int i = TRACKED.size() - 1; i >= 0; i--) {
+            Tracked tracked = TRACKED.get(i);
+            Entity entity = tracked.entity;
+            //Remove Entities That Aren't Active
+            if (entity.isRemoved() || entity.isSilent() || entity.level != level
+                    || (camera != null && entity.distanceToSqr(camera) > MAX_DISTANCE_SQR && !AUTO_ENTITIES_AND_SOUNDS.containsKey(entity.getType()))) {
+                remove(i);
+                continue;
+            }
+
+            Vec3 vel = entity.getDeltaMovement();
+            double distanceTo = distance(entity.getX(), entity.getY(), entity.getZ(), player.getX(), player.getEyeY(), player.getZ());
+            double newDistanceTo = distance(entity.getX() + vel.x * 2D, entity.getY() + vel.y * 2D, entity.getZ() + vel.z * 2D, playerX, playerY, playerZ);
+
+            tracked.cooldown--;
+            // closing in on the player, and close enough for its speed
+            if (distanceTo > newDistanceTo && distanceTo < (vel.lengthSqr() + playerSpeed) * 2D && tracked.cooldown <= 0) {
+                FlyBySound flyBy = tracked.sound;
+                float volume = (float) (flyBy.volume + (vel.length() / 2));
+                client.getSoundManager().play(new EntityBoundSoundInstance(flyBy.sound, flyBy.category, volume, flyBy.pitch, entity, level.random.nextLong()));
+                tracked.cooldown = COOLDOWN;
             }
         }
 
         if (!AUTO_ENTITIES_AND_SOUNDS.isEmpty()) {
             if (checkAroundCooldown > 0) {
                 --checkAroundCooldown;
-            } else {
-                if (client.level != null && autoSounds) {
-                    checkAroundCooldown = 1;
-                    AABB box = new AABB(player.blockPosition().offset(-3, -3, -3), player.blockPosition().offset(3, 3, 3));
-                    for (Entity entity : client.level.getEntities(player, box)) {
-                        EntityType<?> type = entity.getType();
-                        if (AUTO_ENTITIES_AND_SOUNDS.containsKey(type)) {
-                            addEntity(entity, AUTO_ENTITIES_AND_SOUNDS.get(type));
-                        }
-                    }
-                }
+            } else if (autoSounds) {
+                checkAroundCooldown = 1;
+                checkAroundPlayer = player;
+                // goes through the level's entity sections directly, without collecting the entities into a list
+                ((ClientLevelAccessor) level).frozenLib$getEntities().get(getCheckAroundBox(player), CHECK_AROUND);
+                checkAroundPlayer = null;
             }
         }
     }
 
     public static void addEntity(Entity entity, FlyBySound flyBySound) {
-        FLYBY_ENTITIES_AND_SOUNDS.put(entity, flyBySound);
+        Tracked tracked = TRACKED_BY_ID.get(entity.getId());
+        if (tracked == null) {
+            tracked = POOL.isEmpty() ? new Tracked() : POOL.pop();
+            tracked.index = TRACKED.size();
+            TRACKED.add(tracked);
+            TRACKED_BY_ID.put(entity.getId(), tracked);
+        } else if (tracked.entity == entity && tracked.sound.equals(flyBySound)) {
+            return;
+        }
+        tracked.entity = entity;
+        tracked.sound = flyBySound;
+        tracked.cooldown = 0;
+    }
+
+    public static void removeEntity(Entity entity) {
+        Tracked tracked = TRACKED_BY_ID.get(entity.getId());
+        if (tracked != null && tracked.entity == entity) {
+            remove(tracked.index);
+        }
+    }
+
+    public static boolean isTracked(Entity entity) {
+        Tracked tracked = TRACKED_BY_ID.get(entity.getId());
+        return tracked != null && tracked.entity == entity;
+    }
+
+    public static void clear() {
+        for (int i = TRACKED.size() - 1; i >= 0; i--) {
+            remove(i);
+        }
+        checkAroundCenter = Long.MIN_VALUE;
+        checkAroundBox = null;
+    }
+
+    private static void remove(int index) {
+        Tracked tracked = TRACKED.get(index);
+        TRACKED_BY_ID.remove(tracked.entity.getId());
+        // swap with the last entry so removing doesn't shift the list
+        Tracked last = TRACKED.pop();
+        if (last != tracked) {
+            last.index = index;
+            TRACKED.set(index, last);
+        }
+        tracked.entity = null;
+        tracked.sound = null;
+        POOL.push(tracked);
+    }
+
+    private static AABB getCheckAroundBox(Player player) {
+        // only rebuilt when the player moves to another block
+        long center = player.blockPosition().asLong();
+        AABB box = checkAroundBox;
+        if (box == null || center != checkAroundCenter) {
+            box = new AABB(player.blockPosition().offset(-CHECK_AROUND_RADIUS, -CHECK_AROUND_RADIUS, -CHECK_AROUND_RADIUS), player.blockPosition().offset(CHECK_AROUND_RADIUS, CHECK_AROUND_RADIUS, CHECK_AROUND_RADIUS));
+            checkAroundBox = box;
+            checkAroundCenter = center;
+        }
+        return box;
+    }
+
+    private static double distance(double x1, double y1, double z1, double x2, double y2, double z2) {
+        double x = x1 - x2;
+        double y = y1 - y2;
+        double z = z1 - z2;
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    private static class Tracked {
+        private Entity entity;
+        private FlyBySound sound;
+        private int cooldown;
+        private int index;
     }
 
     public record FlyBySound(float pitch, float volume, SoundSource category, SoundEvent sound) {
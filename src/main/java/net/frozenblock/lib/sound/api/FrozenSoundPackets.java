@@ -21,10 +21,11 @@ package net.frozenblock.lib.sound.api;
 import com.mojang.math.Vector3d;
 import io.netty.buffer.Unpooled;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.lib.FrozenMain;
+import net.frozenblock.lib.sound.api.predicate.SoundPredicate;
 import net.frozenblock.lib.sound.impl.EntityLoopingFadingDistanceSoundInterface;
 import net.frozenblock.lib.sound.impl.EntityLoopingSoundInterface;
+import net.frozenblock.lib.sound.impl.SoundPacketBundler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.network.FriendlyByteBuf;
@@ -41,102 +42,107 @@ public final class FrozenSoundPackets {
 		throw new UnsupportedOperationException("FrozenSoundPackets contains only static declarations.");
 	}
 
+	/**
+	 * The precision positions are written with, matching vanilla's sound packets.
+	 */
+	private static final double POSITION_SCALE = 8D;
+
+	private static FriendlyByteBuf createBuf() {
+		return new FriendlyByteBuf(Unpooled.buffer());
+	}
+
+	public static void writePosition(FriendlyByteBuf byteBuf, double x, double y, double z) {
+		byteBuf.writeInt((int) (x * POSITION_SCALE));
+		byteBuf.writeInt((int) (y * POSITION_SCALE));
+		byteBuf.writeInt((int) (z * POSITION_SCALE));
+	}
+
+	public static double readPositionComponent(FriendlyByteBuf byteBuf) {
+		return byteBuf.readInt() / POSITION_SCALE;
+	}
+
 	public static void createLocalSound(Level level, BlockPos pos, SoundEvent sound, SoundSource source, float volume, float pitch, boolean distanceDelay) {
 		if (!level.isClientSide) {
-			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-			byteBuf.writeDouble(pos.getX());
-			byteBuf.writeDouble(pos.getY());
-			byteBuf.writeDouble(pos.getZ());
+			FriendlyByteBuf byteBuf = createBuf();
+			writePosition(byteBuf, pos.getX(), pos.getY(), pos.getZ());
 			byteBuf.writeId(Registry.SOUND_EVENT, sound);
 			byteBuf.writeEnum(source);
 			byteBuf.writeFloat(volume);
 			byteBuf.writeFloat(pitch);
 			byteBuf.writeBoolean(distanceDelay);
-			for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) level, pos)) {
-				ServerPlayNetworking.send(player, FrozenMain.LOCAL_SOUND_PACKET, byteBuf);
-			}
+			SoundPacketBundler.queue(PlayerLookup.tracking((ServerLevel) level, pos), FrozenMain.LOCAL_SOUND_PACKET, byteBuf);
 		}
 	}
 
 	public static void createLocalSound(Level level, double x, double y, double z, SoundEvent sound, SoundSource source, float volume, float pitch, boolean distanceDelay) {
 		if (!level.isClientSide) {
-			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-			byteBuf.writeDouble(x);
-			byteBuf.writeDouble(y);
-			byteBuf.writeDouble(z);
+			FriendlyByteBuf byteBuf = createBuf();
+			writePosition(byteBuf, x, y, z);
 			byteBuf.writeId(Registry.SOUND_EVENT, sound);
 			byteBuf.writeEnum(source);
 			byteBuf.writeFloat(volume);
 			byteBuf.writeFloat(pitch);
 			byteBuf.writeBoolean(distanceDelay);
-			for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) level, new BlockPos(x, y, z))) {
-				ServerPlayNetworking.send(player, FrozenMain.LOCAL_SOUND_PACKET, byteBuf);
-			}
+			SoundPacketBundler.queue(PlayerLookup.tracking((ServerLevel) level, new BlockPos(x, y, z)), FrozenMain.LOCAL_SOUND_PACKET, byteBuf);
 		}
 	}
 
 	public static void createFlybySound(Level world, Entity entity, SoundEvent sound, SoundSource category, float volume, float pitch) {
 		if (!world.isClientSide) {
-			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+			FriendlyByteBuf byteBuf = createBuf();
 			byteBuf.writeVarInt(entity.getId());
 			byteBuf.writeId(Registry.SOUND_EVENT, sound);
 			byteBuf.writeEnum(category);
 			byteBuf.writeFloat(volume);
 			byteBuf.writeFloat(pitch);
-			for (ServerPlayer player : PlayerLookup.around((ServerLevel) world, entity.blockPosition(), 128)) {
-				ServerPlayNetworking.send(player, FrozenMain.FLYBY_SOUND_PACKET, byteBuf);
-			}
+			SoundPacketBundler.queue(PlayerLookup.around((ServerLevel) world, entity.blockPosition(), 128), FrozenMain.FLYBY_SOUND_PACKET, byteBuf);
 		}
 	}
 
     public static void createMovingRestrictionSound(Level world, Entity entity, SoundEvent sound, SoundSource category, float volume, float pitch, ResourceLocation predicate, boolean stopOnDeath) {
         if (!world.isClientSide) {
-            FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+            FriendlyByteBuf byteBuf = createBuf();
             byteBuf.writeVarInt(entity.getId());
             byteBuf.writeId(Registry.SOUND_EVENT, sound);
             byteBuf.writeEnum(category);
             byteBuf.writeFloat(volume);
             byteBuf.writeFloat(pitch);
-            byteBuf.writeResourceLocation(predicate);
+            SoundPredicate.writePredicateId(byteBuf, predicate);
 			byteBuf.writeBoolean(stopOnDeath);
-            for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) world, entity.blockPosition())) {
-                ServerPlayNetworking.send(player, FrozenMain.MOVING_RESTRICTION_SOUND_PACKET, byteBuf);
-            }
+            SoundPacketBundler.queue(PlayerLookup.tracking((ServerLevel) world, entity.blockPosition()), FrozenMain.MOVING_RESTRICTION_SOUND_PACKET, byteBuf);
         }
     }
 
     public static void createMovingRestrictionLoopingSound(Level world, Entity entity, SoundEvent sound, SoundSource category, float volume, float pitch, ResourceLocation predicate, boolean stopOnDeath) {
         if (!world.isClientSide) {
-            FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+            FriendlyByteBuf byteBuf = createBuf();
             byteBuf.writeVarInt(entity.getId());
             byteBuf.writeId(Registry.SOUND_EVENT, sound);
             byteBuf.writeEnum(category);
             byteBuf.writeFloat(volume);
             byteBuf.writeFloat(pitch);
-            byteBuf.writeResourceLocation(predicate);
+            SoundPredicate.writePredicateId(byteBuf, predicate);
 			byteBuf.writeBoolean(stopOnDeath);
-            for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) world, entity.blockPosition())) {
-                ServerPlayNetworking.send(player, FrozenMain.MOVING_RESTRICTION_LOOPING_SOUND_PACKET, byteBuf);
-            }
+            SoundPacketBundler.queue(PlayerLookup.tracking((ServerLevel) world, entity.blockPosition()), FrozenMain.MOVING_RESTRICTION_LOOPING_SOUND_PACKET, byteBuf);
 			((EntityLoopingSoundInterface)entity).addSound(Registry.SOUND_EVENT.getKey(sound), category, volume, pitch, predicate, stopOnDeath);
         }
     }
 
     public static void createMovingRestrictionLoopingSound(ServerPlayer player, Entity entity, SoundEvent sound, SoundSource category, float volume, float pitch, ResourceLocation id, boolean stopOnDeath) {
-        FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+        FriendlyByteBuf byteBuf = createBuf();
         byteBuf.writeVarInt(entity.getId());
         byteBuf.writeId(Registry.SOUND_EVENT, sound);
         byteBuf.writeEnum(category);
         byteBuf.writeFloat(volume);
         byteBuf.writeFloat(pitch);
-        byteBuf.writeResourceLocation(id);
+        SoundPredicate.writePredicateId(byteBuf, id);
 		byteBuf.writeBoolean(stopOnDeath);
-        ServerPlayNetworking.send(player, FrozenMain.MOVING_RESTRICTION_LOOPING_SOUND_PACKET, byteBuf);
+        SoundPacketBundler.queue(player, FrozenMain.MOVING_RESTRICTION_LOOPING_SOUND_PACKET, byteBuf);
     }
 
     public static void createMovingRestrictionLoopingFadingDistanceSound(Level world, Entity entity, SoundEvent sound, SoundEvent sound2, SoundSource category, float volume, float pitch, ResourceLocation predicate, boolean stopOnDeath, float fadeDist, float maxDist) {
         if (!world.isClientSide) {
-            FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+            FriendlyByteBuf byteBuf = createBuf();
             byteBuf.writeVarInt(entity.getId());
             byteBuf.writeId(Registry.SOUND_EVENT, sound);
             byteBuf.writeId(Registry.SOUND_EVENT, sound2);
@@ -145,17 +151,15 @@ public final class FrozenSoundPackets {
             byteBuf.writeFloat(pitch);
             byteBuf.writeFloat(fadeDist);
             byteBuf.writeFloat(maxDist);
-            byteBuf.writeResourceLocation(predicate);
+            SoundPredicate.writePredicateId(byteBuf, predicate);
 			byteBuf.writeBoolean(stopOnDeath);
-            for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) world, entity.blockPosition())) {
-                ServerPlayNetworking.send(player, FrozenMain.MOVING_RESTRICTION_LOOPING_FADING_DISTANCE_SOUND_PACKET, byteBuf);
-            }
+            SoundPacketBundler.queue(PlayerLookup.tracking((ServerLevel) world, entity.blockPosition()), FrozenMain.MOVING_RESTRICTION_LOOPING_FADING_DISTANCE_SOUND_PACKET, byteBuf);
 			((EntityLoopingFadingDistanceSoundInterface)entity).addFadingDistanceSound(Registry.SOUND_EVENT.getKey(sound), Registry.SOUND_EVENT.getKey(sound2), category, volume, pitch, predicate, stopOnDeath, fadeDist, maxDist);
         }
     }
 
     public static void createMovingRestrictionLoopingFadingDistanceSound(ServerPlayer player, Entity entity, SoundEvent sound, SoundEvent sound2, SoundSource category, float volume, float pitch, ResourceLocation predicate, boolean stopOnDeath, float fadeDist, float maxDist) {
-        FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+        FriendlyByteBuf byteBuf = createBuf();
         byteBuf.writeVarInt(entity.getId());
         byteBuf.writeId(Registry.SOUND_EVENT, sound);
         byteBuf.writeId(Registry.SOUND_EVENT, sound2);
@@ -164,13 +168,13 @@ public final class FrozenSoundPackets {
         byteBuf.writeFloat(pitch);
         byteBuf.writeFloat(fadeDist);
         byteBuf.writeFloat(maxDist);
-        byteBuf.writeResourceLocation(predicate);
+        SoundPredicate.writePredicateId(byteBuf, predicate);
 		byteBuf.writeBoolean(stopOnDeath);
-        ServerPlayNetworking.send(player, FrozenMain.MOVING_RESTRICTION_LOOPING_FADING_DISTANCE_SOUND_PACKET, byteBuf);
+        SoundPacketBundler.queue(player, FrozenMain.MOVING_RESTRICTION_LOOPING_FADING_DISTANCE_SOUND_PACKET, byteBuf);
     }
 
     public static void createMovingRestrictionFadingDistanceSound(ServerPlayer player, Entity entity, SoundEvent sound, SoundEvent sound2, SoundSource category, float volume, float pitch, ResourceLocation predicate, boolean stopOnDeath, float fadeDist, float maxDist) {
-        FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+        FriendlyByteBuf byteBuf = createBuf();
         byteBuf.writeVarInt(entity.getId());
         byteBuf.writeId(Registry.SOUND_EVENT, sound);
         byteBuf.writeId(Registry.SOUND_EVENT, sound2);
@@ -179,17 +183,15 @@ public final class FrozenSoundPackets {
         byteBuf.writeFloat(pitch);
         byteBuf.writeFloat(fadeDist);
         byteBuf.writeFloat(maxDist);
-        byteBuf.writeResourceLocation(predicate);
+        SoundPredicate.writePredicateId(byteBuf, predicate);
 		byteBuf.writeBoolean(stopOnDeath);
-        ServerPlayNetworking.send(player, FrozenMain.MOVING_FADING_DISTANCE_SOUND_PACKET, byteBuf);
+        SoundPacketBundler.queue(player, FrozenMain.MOVING_FADING_DISTANCE_SOUND_PACKET, byteBuf);
     }
 
     public static void createFadingDistanceSound(Level world, Vector3d pos, SoundEvent sound, SoundEvent sound2, SoundSource category, float volume, float pitch, ResourceLocation predicate, boolean stopOnDeath, float fadeDist, float maxDist) {
         if (!world.isClientSide) {
-            FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-            byteBuf.writeDouble(pos.x);
-            byteBuf.writeDouble(pos.y);
-            byteBuf.writeDouble(pos.z);
+            FriendlyByteBuf byteBuf = createBuf();
+            writePosition(byteBuf, pos.x, pos.y, pos.z);
             byteBuf.writeId(Registry.SOUND_EVENT, sound);
             byteBuf.writeId(Registry.SOUND_EVENT, sound2);
             byteBuf.writeEnum(category);
@@ -197,51 +199,47 @@ public final class FrozenSoundPackets {
             byteBuf.writeFloat(pitch);
             byteBuf.writeFloat(fadeDist);
             byteBuf.writeFloat(maxDist);
-            byteBuf.writeResourceLocation(predicate);
+            SoundPredicate.writePredicateId(byteBuf, predicate);
 			byteBuf.writeBoolean(stopOnDeath);
-            for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) world, new BlockPos(pos.x, pos.y, pos.z))) {
-                ServerPlayNetworking.send(player, FrozenMain.FADING_DISTANCE_SOUND_PACKET, byteBuf);
-            }
+            SoundPacketBundler.queue(PlayerLookup.tracking((ServerLevel) world, new BlockPos(pos.x, pos.y, pos.z)), FrozenMain.FADING_DISTANCE_SOUND_PACKET, byteBuf);
         }
     }
 
     public static void createStartingMovingRestrictionLoopingSound(Level world, Entity entity, SoundEvent startingSound, SoundEvent sound, SoundSource category, float volume, float pitch, ResourceLocation predicate, boolean stopOnDeath) {
         if (!world.isClientSide) {
-            FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+            FriendlyByteBuf byteBuf = createBuf();
             byteBuf.writeVarInt(entity.getId());
             byteBuf.writeId(Registry.SOUND_EVENT, startingSound);
             byteBuf.writeId(Registry.SOUND_EVENT, sound);
             byteBuf.writeEnum(category);
             byteBuf.writeFloat(volume);
             byteBuf.writeFloat(pitch);
-            byteBuf.writeResourceLocation(predicate);
+            SoundPredicate.writePredicateId(byteBuf, predicate);
 			byteBuf.writeBoolean(stopOnDeath);
-            for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) world, entity.blockPosition())) {
-                ServerPlayNetworking.send(player, FrozenMain.STARTING_RESTRICTION_LOOPING_SOUND_PACKET, byteBuf);
-            }
+            SoundPacketBundler.queue(PlayerLookup.tracking((ServerLevel) world, entity.blockPosition()), FrozenMain.STARTING_RESTRICTION_LOOPING_SOUND_PACKET, byteBuf);
 			((EntityLoopingSoundInterface)entity).addSound(Registry.SOUND_EVENT.getKey(sound), category, volume, pitch, predicate, stopOnDeath);
         }
     }
 
     public static void createStartingMovingRestrictionLoopingSound(ServerPlayer player, Entity entity, SoundEvent startingSound, SoundEvent sound, SoundSource category, float volume, float pitch, ResourceLocation predicate, boolean stopOnDeath) {
-        FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+        FriendlyByteBuf byteBuf = createBuf();
         byteBuf.writeVarInt(entity.getId());
         byteBuf.writeId(Registry.SOUND_EVENT, startingSound);
         byteBuf.writeId(Registry.SOUND_EVENT, sound);
         byteBuf.writeEnum(category);
         byteBuf.writeFloat(volume);
         byteBuf.writeFloat(pitch);
-        byteBuf.writeResourceLocation(predicate);
+        SoundPredicate.writePredicateId(byteBuf, predicate);
 		byteBuf.writeBoolean(stopOnDeath);
-        ServerPlayNetworking.send(player, FrozenMain.STARTING_RESTRICTION_LOOPING_SOUND_PACKET, byteBuf);
+        SoundPacketBundler.queue(player, FrozenMain.STARTING_RESTRICTION_LOOPING_SOUND_PACKET, byteBuf);
     }
 
 	public static void createLocalPlayerSound(ServerPlayer player, SoundEvent sound, float volume, float pitch) {
-		FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+		FriendlyByteBuf byteBuf = createBuf();
 		byteBuf.writeId(Registry.SOUND_EVENT, sound);
 		byteBuf.writeFloat(volume);
 		byteBuf.writeFloat(pitch);
-		ServerPlayNetworking.send(player, FrozenMain.LOCAL_PLAYER_SOUND_PACKET, byteBuf);
+		SoundPacketBundler.queue(player, FrozenMain.LOCAL_PLAYER_SOUND_PACKET, byteBuf);
 	}
 
 }
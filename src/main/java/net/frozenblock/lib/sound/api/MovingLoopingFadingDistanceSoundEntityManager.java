@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import net.frozenblock.lib.FrozenMain;
+import net.frozenblock.lib.entity.impl.EntityAttachment;
+import net.frozenblock.lib.entity.impl.EntityAttachments;
 import net.frozenblock.lib.sound.api.predicate.SoundPredicate;
 import net.minecraft.core.Registry;
 import net.minecraft.nbt.CompoundTag;
@@ -38,7 +40,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
 import org.slf4j.Logger;
 
-public class MovingLoopingFadingDistanceSoundEntityManager {
+public class MovingLoopingFadingDistanceSoundEntityManager implements EntityAttachment {
     private final ArrayList<FadingDistanceSoundLoopNBT> sounds = new ArrayList<>();
     public final Entity entity;
 
@@ -57,6 +59,9 @@ public class MovingLoopingFadingDistanceSoundEntityManager {
                 List<FadingDistanceSoundLoopNBT> allSounds = list.get();
                 this.sounds.addAll(allSounds);
             }
+			if (!this.sounds.isEmpty()) {
+				EntityAttachments.markActive(this);
+			}
         }
     }
 
@@ -69,12 +74,24 @@ public class MovingLoopingFadingDistanceSoundEntityManager {
 
     public void addSound(ResourceLocation soundID, ResourceLocation soundID2, SoundSource category, float volume, float pitch, ResourceLocation restrictionId, boolean stopOnDeath, float fadeDist, float maxDist) {
         this.sounds.add(new FadingDistanceSoundLoopNBT(soundID, soundID2, category, volume, pitch, restrictionId, stopOnDeath, fadeDist, maxDist));
+		EntityAttachments.markActive(this);
     }
 
     public ArrayList<FadingDistanceSoundLoopNBT> getSounds() {
         return this.sounds;
     }
 
+	@Override
+	public Entity getAttachedEntity() {
+		return this.entity;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.sounds.isEmpty();
+	}
+
+	@Override
 	public void tick() {
 		if (!this.sounds.isEmpty()) {
 			ArrayList<FadingDistanceSoundLoopNBT> soundsToRemove = new ArrayList<>();
@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import net.frozenblock.lib.FrozenMain;
+import net.frozenblock.lib.entity.impl.EntityAttachment;
+import net.frozenblock.lib.entity.impl.EntityAttachments;
 import net.frozenblock.lib.sound.api.predicate.SoundPredicate;
 import net.minecraft.core.Registry;
 import net.minecraft.nbt.CompoundTag;
@@ -38,7 +40,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
 import org.slf4j.Logger;
 
-public class MovingLoopingSoundEntityManager {
+public class MovingLoopingSoundEntityManager implements EntityAttachment {
     private final ArrayList<SoundLoopData> sounds = new ArrayList<>();
     public Entity entity;
 
@@ -57,6 +59,9 @@ public class MovingLoopingSoundEntityManager {
                 List<SoundLoopData> allSounds = list.get();
                 this.sounds.addAll(allSounds);
             }
+			if (!this.sounds.isEmpty()) {
+				EntityAttachments.markActive(this);
+			}
         }
     }
 
@@ -69,12 +74,24 @@ public class MovingLoopingSoundEntityManager {
 
     public void addSound(ResourceLocation soundID, SoundSource category, float volume, float pitch, ResourceLocation restrictionId, boolean stopOnDeath) {
         this.sounds.add(new SoundLoopData(soundID, category, volume, pitch, restrictionId, stopOnDeath));
+		EntityAttachments.markActive(this);
     }
 
     public List<SoundLoopData> getSounds() {
         return this.sounds;
     }
 
+	@Override
+	public Entity getAttachedEntity() {
+		return this.entity;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.sounds.isEmpty();
+	}
+
+	@Override
     public void tick() {
 		if (!this.sounds.isEmpty()) {
 			ArrayList<SoundLoopData> soundsToRemove = new ArrayList<>();
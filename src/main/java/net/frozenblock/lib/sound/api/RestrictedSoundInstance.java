@@ -27,4 +27,11 @@ public abstract class RestrictedSoundInstance extends AbstractTickableSoundInsta
 	protected RestrictedSoundInstance(SoundEvent soundEvent, SoundSource soundSource, RandomSource randomSource) {
 		super(soundEvent, soundSource, randomSource);
 	}
+
+	/**
+	 * @return the volume before it's scaled by the sound's own volume, which is available before the sound has been played.
+	 */
+	public float getBaseVolume() {
+		return this.volume;
+	}
 }
@@ -51,6 +51,28 @@ public final class BlockSoundGroupOverwrites {
 		return MANAGER.getOverwrite(id);
 	}
 
+	@Nullable
+	public static BlockSoundGroupOverwrite[] getOverwrites(Block block) {
+		return MANAGER.getOverwrites(block);
+	}
+
+	/**
+	 * @return the sound group of the last added overwrite for the block whose condition is met, or null if there is none
+	 */
+	@Nullable
+	public static SoundType getSoundType(Block block) {
+		BlockSoundGroupOverwrite[] overwrites = getOverwrites(block);
+		if (overwrites != null) {
+			for (int i = overwrites.length - 1; i >= 0; i--) {
+				BlockSoundGroupOverwrite overwrite = overwrites[i];
+				if (overwrite.condition().getAsBoolean()) {
+					return overwrite.soundOverwrite();
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * This will only work with vanilla blocks.
 	 */
@@ -21,6 +21,7 @@ package net.frozenblock.lib.sound.api.predicate;
 import net.frozenblock.lib.FrozenMain;
 import net.frozenblock.lib.registry.api.FrozenRegistry;
 import net.minecraft.core.Registry;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.Entity;
 import org.jetbrains.annotations.Nullable;
@@ -62,6 +63,29 @@ public final class SoundPredicate<T extends Entity> {
         return defaultPredicate();
     }
 
+	/**
+	 * Writes a predicate id, using its synced raw id when possible.
+	 */
+	public static void writePredicateId(FriendlyByteBuf buf, ResourceLocation id) {
+		SoundPredicate<?> predicate = FrozenRegistry.SOUND_PREDICATE.get(id);
+		if (predicate != null) {
+			buf.writeVarInt(FrozenRegistry.SOUND_PREDICATE.getId(predicate) + 1);
+		} else {
+			buf.writeVarInt(0);
+			buf.writeResourceLocation(id);
+		}
+	}
+
+	@Nullable
+	public static ResourceLocation readPredicateId(FriendlyByteBuf buf) {
+		int rawId = buf.readVarInt();
+		if (rawId == 0) {
+			return buf.readResourceLocation();
+		}
+		SoundPredicate<?> predicate = FrozenRegistry.SOUND_PREDICATE.byId(rawId - 1);
+		return predicate != null ? FrozenRegistry.SOUND_PREDICATE.getKey(predicate) : null;
+	}
+
 	public static <T extends Entity> LoopPredicate<T> defaultPredicate() {
 		return entity -> !entity.isSilent();
 	}
@@ -23,6 +23,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.qsl.frozenblock.core.base.api.util.InjectedInterface;
 
 @ApiStatus.Internal
@@ -31,6 +32,9 @@ public interface EntityLoopingFadingDistanceSoundInterface {
 
     MovingLoopingFadingDistanceSoundEntityManager getFadingSoundManager();
 
+    @Nullable
+    MovingLoopingFadingDistanceSoundEntityManager getFadingSoundManagerIfPresent();
+
     void addFadingDistanceSound(ResourceLocation soundID, ResourceLocation sound2ID, SoundSource category, float volume, float pitch, ResourceLocation restrictionId, boolean stopOnDeath, float fadeDist, float maxDist);
 
 }
@@ -23,6 +23,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.qsl.frozenblock.core.base.api.util.InjectedInterface;
 
 @ApiStatus.Internal
@@ -31,6 +32,9 @@ public interface EntityLoopingSoundInterface {
 
     MovingLoopingSoundEntityManager getSoundManager();
 
+    @Nullable
+    MovingLoopingSoundEntityManager getSoundManagerIfPresent();
+
     void addSound(ResourceLocation soundID, SoundSource category, float volume, float pitch, ResourceLocation restrictionId, boolean stopOnDeath);
 
 }
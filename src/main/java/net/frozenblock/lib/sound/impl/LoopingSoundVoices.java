@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.sound.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.sound.api.RestrictedSoundInstance;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.sounds.SoundManager;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Limits how many of FrozenLib's looping entity sounds play at once in each {@link SoundSource}.
+ * <p>
+ * Past the budget, only the loudest loops at the listener's position are played.
+ * The rest are virtual: they aren't given a sound channel, are only ticked every few ticks to see if they've stopped,
+ * and are played again once they're among the loudest.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class LoopingSoundVoices {
+	private LoopingSoundVoices() {
+		throw new UnsupportedOperationException("LoopingSoundVoices contains only static declarations.");
+	}
+
+	public static final int DEFAULT_BUDGET = 16;
+	private static final int VIRTUAL_TICK_INTERVAL = 10;
+	/**
+	 * How long a loop stays virtual before it can be played again, so loops with similar volumes don't keep swapping.
+	 */
+	private static final int MIN_VIRTUAL_TICKS = 10;
+	// linear attenuation reaches zero at 16 blocks, scaled by volumes over 1
+	private static final double ATTENUATION_DISTANCE = 16D;
+
+	private static final Comparator<Voice> LOUDEST_FIRST = Comparator.comparingDouble((Voice voice) -> voice.loudness).reversed();
+
+	private static final Map<SoundSource, List<Voice>> VOICES = new EnumMap<>(SoundSource.class);
+	private static final int[] BUDGETS = new int[SoundSource.values().length];
+
+	static {
+		Arrays.fill(BUDGETS, DEFAULT_BUDGET);
+	}
+
+	/**
+	 * Sets how many looping sounds can play at once in the source.
+	 */
+	public static void setBudget(SoundSource source, int budget) {
+		BUDGETS[source.ordinal()] = Math.max(budget, 0);
+	}
+
+	/**
+	 * Plays the looping sound if its source is within budget, otherwise starts it as a virtual sound.
+	 */
+	public static void play(Entity entity, RestrictedSoundInstance sound) {
+		List<Voice> voices = VOICES.computeIfAbsent(sound.getSource(), source -> new ArrayList<>());
+		Voice voice = new Voice(entity, sound);
+		voices.add(voice);
+
+		int playing = 0;
+		for (Voice other : voices) {
+			if (other.playing) {
+				playing++;
+			}
+		}
+		if (playing < BUDGETS[sound.getSource().ordinal()]) {
+			Minecraft.getInstance().getSoundManager().play(sound);
+			voice.playing = true;
+		}
+	}
+
+	public static void tick(Minecraft client) {
+		ClientLevel level = client.level;
+		if (level == null) {
+			clear();
+			return;
+		}
+		if (client.isPaused()) {
+			return;
+		}
+		Vec3 listener = client.gameRenderer.getMainCamera().getPosition();
+		SoundManager soundManager = client.getSoundManager();
+		for (Map.Entry<SoundSource, List<Voice>> entry : VOICES.entrySet()) {
+			update(entry.getValue(), BUDGETS[entry.getKey().ordinal()], level, listener, soundManager);
+		}
+	}
+
+	private static void update(List<Voice> voices, int budget, ClientLevel level, Vec3 listener, SoundManager soundManager) {
+		Iterator<Voice> iterator = voices.iterator();
+		while (iterator.hasNext()) {
+			Voice voice = iterator.next();
+			// playing loops that are no longer active were stopped by the sound engine, like when sounds are reloaded
+			if (voice.sound.isStopped() || voice.entity.level != level || (voice.playing && !soundManager.isActive(voice.sound))) {
+				iterator.remove();
+			} else {
+				voice.loudness = loudness(voice, listener);
+			}
+		}
+
+		if (voices.size() > budget) {
+			voices.sort(LOUDEST_FIRST);
+		}
+
+		for (int i = 0; i < voices.size(); i++) {
+			Voice voice = voices.get(i);
+			if (i < budget) {
+				if (!voice.playing && voice.virtualTicks >= MIN_VIRTUAL_TICKS) {
+					// catch up on the position and volume it missed while virtual
+					voice.sound.tick();
+					if (!voice.sound.isStopped()) {
+						soundManager.play(voice.sound);
+						voice.playing = true;
+					}
+					continue;
+				}
+			} else if (voice.playing) {
+				soundManager.stop(voice.sound);
+				voice.playing = false;
+				voice.virtualTicks = 0;
+			}
+
+			if (!voice.playing) {
+				voice.virtualTicks++;
+				if (voice.virtualTicks % VIRTUAL_TICK_INTERVAL == 0) {
+					voice.sound.tick();
+				}
+			}
+		}
+	}
+
+	private static double loudness(Voice voice, Vec3 listener) {
+		float volume = voice.sound.getBaseVolume();
+		double distance = Math.sqrt(voice.entity.distanceToSqr(listener));
+		return volume * Math.max(0D, 1D - distance / (ATTENUATION_DISTANCE * Math.max(volume, 1F)));
+	}
+
+	public static void clear() {
+		VOICES.clear();
+	}
+
+	private static class Voice {
+		private final Entity entity;
+		private final RestrictedSoundInstance sound;
+		private boolean playing;
+		private int virtualTicks = MIN_VIRTUAL_TICKS;
+		private double loudness;
+
+		private Voice(Entity entity, RestrictedSoundInstance sound) {
+			this.entity = entity;
+			this.sound = sound;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.sound.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.frozenblock.lib.FrozenMain;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects every FrozenLib sound packet sent to a player during a server tick.
+ * <p>
+ * Payloads are encoded once and shared by every recipient.
+ * When a player has more than one queued payload at the end of the tick, they are sent as a single {@link FrozenMain#SOUND_BUNDLE_PACKET}.
+ */
+@ApiStatus.Internal
+public final class SoundPacketBundler {
+
+	/**
+	 * The channels that can be bundled, indexed by their position in the bundle.
+	 * <p>
+	 * Only append to this list, as the index is written to the bundle.
+	 */
+	private static final List<ResourceLocation> CHANNELS = List.of(
+		FrozenMain.LOCAL_SOUND_PACKET,
+		FrozenMain.LOCAL_PLAYER_SOUND_PACKET,
+		FrozenMain.FLYBY_SOUND_PACKET,
+		FrozenMain.MOVING_RESTRICTION_SOUND_PACKET,
+		FrozenMain.MOVING_RESTRICTION_LOOPING_SOUND_PACKET,
+		FrozenMain.STARTING_RESTRICTION_LOOPING_SOUND_PACKET,
+		FrozenMain.MOVING_RESTRICTION_LOOPING_FADING_DISTANCE_SOUND_PACKET,
+		FrozenMain.MOVING_FADING_DISTANCE_SOUND_PACKET,
+		FrozenMain.FADING_DISTANCE_SOUND_PACKET
+	);
+
+	private static final Map<ServerPlayer, List<Entry>> QUEUED = new IdentityHashMap<>();
+
+	private SoundPacketBundler() {
+		throw new UnsupportedOperationException("SoundPacketBundler contains only static declarations.");
+	}
+
+	public static void queue(Iterable<ServerPlayer> players, ResourceLocation channel, FriendlyByteBuf payload) {
+		Entry entry = new Entry(channelIndex(channel), payload);
+		for (ServerPlayer player : players) {
+			QUEUED.computeIfAbsent(player, key -> new ArrayList<>()).add(entry);
+		}
+	}
+
+	public static void queue(ServerPlayer player, ResourceLocation channel, FriendlyByteBuf payload) {
+		QUEUED.computeIfAbsent(player, key -> new ArrayList<>()).add(new Entry(channelIndex(channel), payload));
+	}
+
+	/**
+	 * Sends every queued payload. Called at the end of each server tick.
+	 */
+	public static void flush() {
+		if (QUEUED.isEmpty()) {
+			return;
+		}
+		// payloads sent on their own are shared between recipients, so they're only wrapped in a packet once
+		Map<Entry, Packet<?>> singlePackets = new IdentityHashMap<>();
+		Iterator<Map.Entry<ServerPlayer, List<Entry>>> iterator = QUEUED.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<ServerPlayer, List<Entry>> queued = iterator.next();
+			ServerPlayer player = queued.getKey();
+			List<Entry> entries = queued.getValue();
+			if (player.hasDisconnected() || entries.isEmpty()) {
+				iterator.remove();
+				continue;
+			}
+
+			if (entries.size() == 1) {
+				Entry entry = entries.get(0);
+				player.connection.send(singlePackets.computeIfAbsent(entry, key -> ServerPlayNetworking.createS2CPacket(CHANNELS.get(key.channel()), key.payload())));
+			} else {
+				ServerPlayNetworking.send(player, FrozenMain.SOUND_BUNDLE_PACKET, createBundle(entries));
+			}
+			entries.clear();
+		}
+	}
+
+	public static void clear() {
+		QUEUED.clear();
+	}
+
+	private static FriendlyByteBuf createBundle(List<Entry> entries) {
+		FriendlyByteBuf bundle = new FriendlyByteBuf(Unpooled.buffer());
+		bundle.writeVarInt(entries.size());
+		for (Entry entry : entries) {
+			ByteBuf payload = entry.payload();
+			bundle.writeVarInt(entry.channel());
+			bundle.writeVarInt(payload.readableBytes());
+			bundle.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+		}
+		return bundle;
+	}
+
+	private static int channelIndex(ResourceLocation channel) {
+		int index = CHANNELS.indexOf(channel);
+		if (index < 0) {
+			throw new IllegalArgumentException("Channel " + channel + " cannot be bundled");
+		}
+		return index;
+	}
+
+	@Nullable
+	public static ResourceLocation getChannel(int index) {
+		return index >= 0 && index < CHANNELS.size() ? CHANNELS.get(index) : null;
+	}
+
+	private record Entry(int channel, FriendlyByteBuf payload) {
+	}
+}
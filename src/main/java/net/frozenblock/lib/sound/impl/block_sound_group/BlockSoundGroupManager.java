@@ -25,7 +25,9 @@ import com.mojang.serialization.DataResult;
 import com.mojang.serialization.JsonOps;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -60,6 +62,10 @@ public class BlockSoundGroupManager implements SimpleResourceReloadListener<Bloc
 
 	private Map<ResourceLocation, BlockSoundGroupOverwrite> overwrites;
 	private final Map<ResourceLocation, BlockSoundGroupOverwrite> queuedOverwrites = new HashMap<>();
+	/**
+	 * Overwrites indexed by their {@link Block}, rebuilt and swapped in as a whole on every reload.
+	 */
+	private volatile Map<Block, BlockSoundGroupOverwrite[]> blockOverwrites = Map.of();
 
 	@Nullable
 	public List<BlockSoundGroupOverwrite> getOverwrites() {
@@ -74,6 +80,14 @@ public class BlockSoundGroupManager implements SimpleResourceReloadListener<Bloc
 		return this.overwrites.get(id);
 	}
 
+	/**
+	 * @return the overwrites for the specified block, or null if there are none.
+	 */
+	@Nullable
+	public BlockSoundGroupOverwrite[] getOverwrites(Block block) {
+		return this.blockOverwrites.get(block);
+	}
+
 	/**
 	 * Adds a block with the specified {@link ResourceLocation}.
 	 */
@@ -138,10 +152,25 @@ public class BlockSoundGroupManager implements SimpleResourceReloadListener<Bloc
 	public CompletableFuture<Void> apply(SoundGroupLoader prepared, ResourceManager manager, ProfilerFiller profiler, Executor executor) {
 		this.overwrites = prepared.getOverwrites();
 		this.overwrites.putAll(this.queuedOverwrites);
+		this.blockOverwrites = indexByBlock(this.overwrites);
 		return CompletableFuture.runAsync(() -> {
 		});
 	}
 
+	private static Map<Block, BlockSoundGroupOverwrite[]> indexByBlock(Map<ResourceLocation, BlockSoundGroupOverwrite> overwrites) {
+		Map<Block, List<BlockSoundGroupOverwrite>> grouped = new IdentityHashMap<>();
+		for (BlockSoundGroupOverwrite overwrite : overwrites.values()) {
+			Registry.BLOCK.getOptional(overwrite.blockId()).ifPresent(block ->
+				grouped.computeIfAbsent(block, key -> new ArrayList<>()).add(overwrite)
+			);
+		}
+		Map<Block, BlockSoundGroupOverwrite[]> index = new IdentityHashMap<>(grouped.size());
+		for (Map.Entry<Block, List<BlockSoundGroupOverwrite>> entry : grouped.entrySet()) {
+			index.put(entry.getKey(), entry.getValue().toArray(new BlockSoundGroupOverwrite[0]));
+		}
+		return index;
+	}
+
 	@Override
 	@NotNull
 	public ResourceLocation getFabricId() {
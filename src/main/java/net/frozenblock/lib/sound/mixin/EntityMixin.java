@@ -26,8 +26,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -38,65 +37,73 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(Entity.class)
 public abstract class EntityMixin implements EntityLoopingSoundInterface, EntityLoopingFadingDistanceSoundInterface {
 
-	@Unique
+	@Unique @Nullable
     public MovingLoopingSoundEntityManager frozenLib$loopingSoundManager;
-	@Unique
+	@Unique @Nullable
     public MovingLoopingFadingDistanceSoundEntityManager frozenLib$loopingFadingDistanceSoundManager;
 
-    @Inject(method = "<init>", at = @At("TAIL"))
-    private void frozenLib$setLoopingSoundManagers(EntityType<? extends Entity> entityType, Level level, CallbackInfo info) {
-        Entity entity = Entity.class.cast(this);
-        this.frozenLib$loopingSoundManager = new MovingLoopingSoundEntityManager(entity);
-        this.frozenLib$loopingFadingDistanceSoundManager = new MovingLoopingFadingDistanceSoundEntityManager(entity);
-    }
-
     @Inject(method = "saveWithoutId", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;addAdditionalSaveData(Lnet/minecraft/nbt/CompoundTag;)V", shift = At.Shift.AFTER))
     public void frozenLib$saveLoopingSoundData(CompoundTag compoundTag, CallbackInfoReturnable<CompoundTag> info) {
-        if (this.frozenLib$loopingSoundManager != null) {
+        if (this.frozenLib$loopingSoundManager != null && !this.frozenLib$loopingSoundManager.isEmpty()) {
             this.frozenLib$loopingSoundManager.save(compoundTag);
         }
-        if (this.frozenLib$loopingFadingDistanceSoundManager != null) {
+        if (this.frozenLib$loopingFadingDistanceSoundManager != null && !this.frozenLib$loopingFadingDistanceSoundManager.isEmpty()) {
             this.frozenLib$loopingFadingDistanceSoundManager.save(compoundTag);
         }
     }
 
 	@Inject(method = "load", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;readAdditionalSaveData(Lnet/minecraft/nbt/CompoundTag;)V", shift = At.Shift.AFTER))
     public void frozenLib$loadLoopingSoundData(CompoundTag compoundTag, CallbackInfo info) {
-        this.frozenLib$loopingSoundManager.load(compoundTag);
-        this.frozenLib$loopingFadingDistanceSoundManager.load(compoundTag);
-    }
-
-    @Inject(method = "tick", at = @At("TAIL"))
-    public void frozenLib$tickSounds(CallbackInfo info) {
-		Entity entity = Entity.class.cast(this);
-        if (!entity.level.isClientSide) {
-            this.frozenLib$loopingSoundManager.tick();
-            this.frozenLib$loopingFadingDistanceSoundManager.tick();
-        }
+		if (compoundTag.contains("frozenSounds", 9)) {
+			this.getSoundManager().load(compoundTag);
+		}
+		if (compoundTag.contains("frozenDistanceSounds", 9)) {
+			this.getFadingSoundManager().load(compoundTag);
+		}
     }
 
 	@Unique
     @Override
     public MovingLoopingSoundEntityManager getSoundManager() {
+		if (this.frozenLib$loopingSoundManager == null) {
+			this.frozenLib$loopingSoundManager = new MovingLoopingSoundEntityManager(Entity.class.cast(this));
+		}
         return this.frozenLib$loopingSoundManager;
     }
 
+	@Unique
+	@Override
+	@Nullable
+	public MovingLoopingSoundEntityManager getSoundManagerIfPresent() {
+		return this.frozenLib$loopingSoundManager;
+	}
+
 	@Unique
     @Override
     public void addSound(ResourceLocation soundID, SoundSource category, float volume, float pitch, ResourceLocation restrictionId, boolean stopOnDeath) {
-        this.frozenLib$loopingSoundManager.addSound(soundID, category, volume, pitch, restrictionId, stopOnDeath);
+        this.getSoundManager().addSound(soundID, category, volume, pitch, restrictionId, stopOnDeath);
     }
 
 	@Unique
     @Override
     public MovingLoopingFadingDistanceSoundEntityManager getFadingSoundManager() {
+		if (this.frozenLib$loopingFadingDistanceSoundManager == null) {
+			this.frozenLib$loopingFadingDistanceSoundManager = new MovingLoopingFadingDistanceSoundEntityManager(Entity.class.cast(this));
+		}
         return this.frozenLib$loopingFadingDistanceSoundManager;
     }
 
+	@Unique
+	@Override
+	@Nullable
+	public MovingLoopingFadingDistanceSoundEntityManager getFadingSoundManagerIfPresent() {
+		return this.frozenLib$loopingFadingDistanceSoundManager;
+	}
+
 	@Unique
     @Override
     public void addFadingDistanceSound(ResourceLocation soundID, ResourceLocation sound2ID, SoundSource category, float volume, float pitch, ResourceLocation restrictionId, boolean stopOnDeath, float fadeDist, float maxDist) {
-        this.frozenLib$loopingFadingDistanceSoundManager.addSound(soundID, sound2ID, category, volume, pitch, restrictionId, stopOnDeath, fadeDist, maxDist);
+        this.getFadingSoundManager().addSound(soundID, sound2ID, category, volume, pitch, restrictionId, stopOnDeath, fadeDist, maxDist);
     }
 
 }
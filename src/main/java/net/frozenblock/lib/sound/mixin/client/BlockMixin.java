@@ -18,10 +18,7 @@
 
 package net.frozenblock.lib.sound.mixin.client;
 
-import net.frozenblock.lib.sound.api.block_sound_group.BlockSoundGroupOverwrite;
 import net.frozenblock.lib.sound.api.block_sound_group.BlockSoundGroupOverwrites;
-import net.minecraft.core.Registry;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockState;
@@ -35,15 +32,9 @@ public final class BlockMixin {
 
     @Inject(method = "getSoundType", at = @At("RETURN"), cancellable = true)
     private void getSoundGroupOverride(BlockState state, CallbackInfoReturnable<SoundType> info) {
-        Block block = state.getBlock();
-        ResourceLocation id = Registry.BLOCK.getKey(block);
-		var overwrites = BlockSoundGroupOverwrites.getOverwrites();
-		if (overwrites != null) {
-			for (BlockSoundGroupOverwrite overwrite : overwrites) {
-				if (overwrite.blockId().equals(id) && overwrite.condition().getAsBoolean()) {
-					info.setReturnValue(overwrite.soundOverwrite());
-				}
-			}
+		SoundType soundOverwrite = BlockSoundGroupOverwrites.getSoundType(state.getBlock());
+		if (soundOverwrite != null) {
+			info.setReturnValue(soundOverwrite);
 		}
     }
 
@@ -28,6 +28,9 @@ import java.util.Optional;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.lib.FrozenMain;
+import net.frozenblock.lib.entity.impl.EntityAttachment;
+import net.frozenblock.lib.entity.impl.EntityAttachments;
+import net.frozenblock.lib.spotting_icons.impl.ClientSpottingIcons;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
@@ -37,7 +40,7 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import org.slf4j.Logger;
 
-public class SpottingIconManager {
+public class SpottingIconManager implements EntityAttachment {
 	public Entity entity;
 	public int ticksToCheck;
 	public SpottingIcon icon;
@@ -47,24 +50,33 @@ public class SpottingIconManager {
 		this.entity = entity;
 	}
 
+	@Override
+	public Entity getAttachedEntity() {
+		return this.entity;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.icon == null;
+	}
+
+	@Override
 	public void tick() {
 		if (this.ticksToCheck > 0) {
 			--this.ticksToCheck;
-		} else {
-			this.ticksToCheck = 20;
-			if (this.icon != null) {
-				if (this.entity.level.isClientSide) {
-					this.clientHasIconResource = ClientSpottingIconMethods.hasTexture(this.icon.getTexture());
-				}
-				if (!SpottingIconPredicate.getPredicate(this.icon.restrictionID).test(this.entity)) {
-					this.removeIcon();
-				}
+		} else if (this.icon != null) {
+			SpottingIconPredicate.IconPredicate<Entity> predicate = SpottingIconPredicate.getPredicate(this.icon.restrictionID);
+			this.ticksToCheck = Math.max(predicate.checkInterval(), 1) - 1;
+			if (!predicate.test(this.entity)) {
+				this.removeIcon();
 			}
 		}
 	}
 
 	public void setIcon(ResourceLocation texture, float startFade, float endFade, ResourceLocation restrictionID) {
 		this.icon = new SpottingIcon(texture, startFade, endFade, restrictionID);
+		// spread the checks of icons set on the same tick over the interval
+		this.ticksToCheck = Math.floorMod(this.entity.getId(), Math.max(SpottingIconPredicate.getPredicate(restrictionID).checkInterval(), 1));
 		if (!this.entity.level.isClientSide) {
 			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
 			byteBuf.writeVarInt(this.entity.getId());
@@ -77,8 +89,10 @@ public class SpottingIconManager {
 			}
 		} else {
 			this.clientHasIconResource = ClientSpottingIconMethods.hasTexture(this.icon.getTexture());
+			ClientSpottingIcons.add(this);
 		}
 		SpottingIconPredicate.getPredicate(this.icon.restrictionID).onAdded(this.entity);
+		EntityAttachments.markActive(this);
 	}
 
 	public void removeIcon() {
@@ -90,6 +104,8 @@ public class SpottingIconManager {
 			for (ServerPlayer player : PlayerLookup.tracking(this.entity)) {
 				ServerPlayNetworking.send(player, FrozenMain.SPOTTING_ICON_REMOVE_PACKET, byteBuf);
 			}
+		} else {
+			ClientSpottingIcons.remove(this);
 		}
 	}
 
@@ -106,7 +122,7 @@ public class SpottingIconManager {
 	}
 
 	public void load(CompoundTag nbt) {
-		nbt.putInt("frozenSpottingIconTicksToCheck", this.ticksToCheck);
+		this.ticksToCheck = nbt.getInt("frozenSpottingIconTicksToCheck");
 		if (nbt.contains("frozenSpottingIcons")) {
 			this.icon = null;
 			DataResult<SpottingIcon> var10000 = SpottingIcon.CODEC.parse(new Dynamic<>(NbtOps.INSTANCE, nbt.getCompound("frozenSpottingIcons")));
@@ -114,11 +130,14 @@ public class SpottingIconManager {
 			Objects.requireNonNull(var10001);
 			Optional<SpottingIcon> icon = var10000.resultOrPartial(var10001::error);
 			icon.ifPresent(spottingIcon -> this.icon = spottingIcon);
+			if (this.icon != null) {
+				EntityAttachments.markActive(this);
+			}
 		}
 	}
 
 	public void save(CompoundTag nbt) {
-		this.ticksToCheck = nbt.getInt("frozenSpottingIconTicksToCheck");
+		nbt.putInt("frozenSpottingIconTicksToCheck", this.ticksToCheck);
 		if (this.icon != null) {
 			DataResult<Tag> var10000 = SpottingIcon.CODEC.encodeStart(NbtOps.INSTANCE, this.icon);
 			Logger var10001 = FrozenMain.LOGGER4;
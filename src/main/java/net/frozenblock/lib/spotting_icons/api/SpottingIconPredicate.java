@@ -55,6 +55,13 @@ public final class SpottingIconPredicate<T extends Entity> {
     public interface IconPredicate<T extends Entity> {
         boolean test(T entity);
 
+		/**
+		 * @return how many ticks to wait between tests of an entity with an icon.
+		 */
+		default int checkInterval() {
+			return DEFAULT_CHECK_INTERVAL;
+		}
+
 		default void onAdded(T entity) {
 
 		}
@@ -68,6 +75,7 @@ public final class SpottingIconPredicate<T extends Entity> {
 	}
 
     public static ResourceLocation DEFAULT_ID = FrozenMain.id("default");
+	public static final int DEFAULT_CHECK_INTERVAL = 20;
 
     public static void init() {
         register(DEFAULT_ID, defaultPredicate());
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.spotting_icons.impl;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.spotting_icons.api.SpottingIconManager;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.culling.Frustum;
+import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * The spotting icon managers on the client that currently have an icon, so rendering doesn't have to look at every entity.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class ClientSpottingIcons {
+	private ClientSpottingIcons() {
+		throw new UnsupportedOperationException("ClientSpottingIcons contains only static declarations.");
+	}
+
+	private static final Comparator<SpottingIconManager> BY_TEXTURE = Comparator.comparing(manager -> manager.icon.getTexture());
+
+	private static final ReferenceOpenHashSet<SpottingIconManager> ACTIVE = new ReferenceOpenHashSet<>();
+	private static final List<SpottingIconManager> VISIBLE = new ArrayList<>();
+
+	public static void add(SpottingIconManager manager) {
+		ACTIVE.add(manager);
+	}
+
+	public static void remove(SpottingIconManager manager) {
+		ACTIVE.remove(manager);
+	}
+
+	/**
+	 * Checks again whether each icon's texture exists, after resources have been reloaded.
+	 */
+	public static void refreshTextures() {
+		for (SpottingIconManager manager : ACTIVE) {
+			SpottingIconManager.SpottingIcon icon = manager.icon;
+			if (icon != null) {
+				manager.clientHasIconResource = SpottingIconTextureCache.INSTANCE.hasTexture(icon.getTexture());
+			}
+		}
+	}
+
+	public static void clear() {
+		ACTIVE.clear();
+		VISIBLE.clear();
+	}
+
+	/**
+	 * Collects the icons that would be drawn this frame: inside the frustum, further than their start fade distance
+	 * and with a loaded texture. They're sorted by texture so icons sharing one are drawn in the same batch.
+	 * <p>
+	 * Icons of removed entities, or of entities from another level, are dropped.
+	 *
+	 * @return the visible icons, which are only valid until the next call.
+	 */
+	public static List<SpottingIconManager> collectVisible(ClientLevel level, Frustum frustum, EntityRenderDispatcher dispatcher) {
+		VISIBLE.clear();
+		Iterator<SpottingIconManager> iterator = ACTIVE.iterator();
+		while (iterator.hasNext()) {
+			SpottingIconManager manager = iterator.next();
+			Entity entity = manager.entity;
+			SpottingIconManager.SpottingIcon icon = manager.icon;
+			if (icon == null || entity.isRemoved() || entity.level != level) {
+				iterator.remove();
+				continue;
+			}
+			if (!manager.clientHasIconResource || dispatcher.distanceToSqr(entity) <= (double) icon.startFadeDist * icon.startFadeDist) {
+				continue;
+			}
+			// the icon sits a block above the entity's head
+			if (frustum.isVisible(entity.getBoundingBox().expandTowards(0D, 1.5D, 0D).inflate(0.5D))) {
+				VISIBLE.add(manager);
+			}
+		}
+		VISIBLE.sort(BY_TEXTURE);
+		return VISIBLE;
+	}
+}
@@ -19,9 +19,13 @@
 package net.frozenblock.lib.spotting_icons.impl;
 
 import net.frozenblock.lib.spotting_icons.api.SpottingIconManager;
+import org.jetbrains.annotations.Nullable;
 
 public interface EntitySpottingIconInterface {
 
 	SpottingIconManager getSpottingIconManager();
 
+	@Nullable
+	SpottingIconManager getSpottingIconManagerIfPresent();
+
 }
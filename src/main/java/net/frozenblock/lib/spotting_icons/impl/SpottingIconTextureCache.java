@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.spotting_icons.impl;
+
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.frozenblock.lib.FrozenMain;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Remembers whether each spotting icon texture exists, until resources are reloaded.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class SpottingIconTextureCache implements SimpleSynchronousResourceReloadListener {
+	public static final SpottingIconTextureCache INSTANCE = new SpottingIconTextureCache();
+
+	private final Object2BooleanOpenHashMap<ResourceLocation> textures = new Object2BooleanOpenHashMap<>();
+
+	private SpottingIconTextureCache() {
+	}
+
+	public boolean hasTexture(ResourceLocation texture) {
+		if (this.textures.containsKey(texture)) {
+			return this.textures.getBoolean(texture);
+		}
+		boolean hasTexture = Minecraft.getInstance().getResourceManager().getResource(texture).isPresent();
+		this.textures.put(texture, hasTexture);
+		return hasTexture;
+	}
+
+	@Override
+	public ResourceLocation getFabricId() {
+		return FrozenMain.id("spotting_icon_textures");
+	}
+
+	@Override
+	public void onResourceManagerReload(ResourceManager resourceManager) {
+		this.textures.clear();
+		ClientSpottingIcons.refreshTextures();
+	}
+}
@@ -22,8 +22,7 @@ import net.frozenblock.lib.spotting_icons.api.SpottingIconManager;
 import net.frozenblock.lib.spotting_icons.impl.EntitySpottingIconInterface;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -34,39 +33,36 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(Entity.class)
 public class EntityMixin implements EntitySpottingIconInterface {
 
-	@Unique
+	@Unique @Nullable
 	public SpottingIconManager frozenLib$SpottingIconManager;
 
-    @Inject(method = "<init>", at = @At("TAIL"))
-    private void frozenLib$setIconManager(EntityType<?> entityType, Level level, CallbackInfo info) {
-        Entity entity = Entity.class.cast(this);
-		this.frozenLib$SpottingIconManager = new SpottingIconManager(entity);
-    }
-
-
     @Inject(method = "saveWithoutId", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;addAdditionalSaveData(Lnet/minecraft/nbt/CompoundTag;)V", shift = At.Shift.AFTER))
     public void frozenLib$saveIconManager(CompoundTag compoundTag, CallbackInfoReturnable<CompoundTag> info) {
-		if (this.frozenLib$SpottingIconManager != null) {
+		if (this.frozenLib$SpottingIconManager != null && !this.frozenLib$SpottingIconManager.isEmpty()) {
 			this.frozenLib$SpottingIconManager.save(compoundTag);
 		}
     }
 
     @Inject(method = "load", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;readAdditionalSaveData(Lnet/minecraft/nbt/CompoundTag;)V", shift = At.Shift.AFTER))
     public void frozenLib$loadIconManager(CompoundTag compoundTag, CallbackInfo info) {
-		this.frozenLib$SpottingIconManager.load(compoundTag);
-    }
-
-    @Inject(method = "tick", at = @At("TAIL"))
-    public void frozenLib$tickIcon(CallbackInfo info) {
-		Entity entity = Entity.class.cast(this);
-        if (!entity.level.isClientSide) {
-			this.frozenLib$SpottingIconManager.tick();
-        }
+		if (compoundTag.contains("frozenSpottingIcons")) {
+			this.getSpottingIconManager().load(compoundTag);
+		}
     }
 
 	@Unique
 	@Override
 	public SpottingIconManager getSpottingIconManager() {
+		if (this.frozenLib$SpottingIconManager == null) {
+			this.frozenLib$SpottingIconManager = new SpottingIconManager(Entity.class.cast(this));
+		}
+		return this.frozenLib$SpottingIconManager;
+	}
+
+	@Unique
+	@Override
+	@Nullable
+	public SpottingIconManager getSpottingIconManagerIfPresent() {
 		return this.frozenLib$SpottingIconManager;
 	}
 
@@ -47,8 +47,8 @@ public abstract class EntityRendererMixin<T extends Entity> implements EntityRen
 	@Unique
 	@Override
 	public <T extends Entity> void renderIcon(T entity, float entityYaw, float partialTick, PoseStack matrixStack, MultiBufferSource buffer, int packedLight) {
-		SpottingIconManager iconManager = ((EntitySpottingIconInterface) entity).getSpottingIconManager();
-		SpottingIconManager.SpottingIcon icon = iconManager.icon;
+		SpottingIconManager iconManager = ((EntitySpottingIconInterface) entity).getSpottingIconManagerIfPresent();
+		SpottingIconManager.SpottingIcon icon = iconManager != null ? iconManager.icon : null;
 		if (icon != null) {
 			double dist = Mth.sqrt((float) this.entityRenderDispatcher.distanceToSqr(entity));
 			if (dist > icon.startFadeDist && iconManager.clientHasIconResource) {
@@ -63,7 +63,7 @@ public abstract class EntityRendererMixin<T extends Entity> implements EntityRen
 				Matrix4f matrix4f = matrixStack.last().pose();
 				Matrix3f matrix3f = matrixStack.last().normal();
 				int overlay = OverlayTexture.pack(OverlayTexture.u(0F), OverlayTexture.v(false));
-				VertexConsumer vertexConsumer = buffer.getBuffer(FrozenRenderType.entityTranslucentEmissiveAlwaysRender(((EntitySpottingIconInterface) entity).getSpottingIconManager().icon.getTexture()));
+				VertexConsumer vertexConsumer = buffer.getBuffer(FrozenRenderType.entityTranslucentEmissiveAlwaysRender(icon.getTexture()));
 				vertexConsumer
 						.vertex(matrix4f, -0.5F, -0.5F, 0.0F)
 						.color(1, 1, 1, alpha)
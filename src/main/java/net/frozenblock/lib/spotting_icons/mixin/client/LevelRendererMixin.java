@@ -21,6 +21,8 @@ package net.frozenblock.lib.spotting_icons.mixin.client;
 import com.mojang.blaze3d.vertex.BufferBuilder;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.math.Matrix4f;
+import net.frozenblock.lib.spotting_icons.api.SpottingIconManager;
+import net.frozenblock.lib.spotting_icons.impl.ClientSpottingIcons;
 import net.frozenblock.lib.spotting_icons.impl.EntityRenderDispatcherWithIcon;
 import net.minecraft.client.Camera;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -29,6 +31,7 @@ import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderBuffers;
+import net.minecraft.client.renderer.culling.Frustum;
 import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
@@ -53,16 +56,23 @@ public class LevelRendererMixin {
 	@Shadow
 	@Nullable
 	private ClientLevel level;
+	@Shadow
+	private Frustum cullingFrustum;
+	@Shadow
+	@Nullable
+	private Frustum capturedFrustum;
 
 	@Inject(method = "renderLevel", at = @At(value = "INVOKE_ASSIGN", target = "Lnet/minecraft/client/renderer/RenderBuffers;bufferSource()Lnet/minecraft/client/renderer/MultiBufferSource$BufferSource;", shift = At.Shift.AFTER))
 	public void renderLevel(PoseStack poseStack, float partialTick, long finishNanoTime, boolean renderBlockOutline, Camera camera, GameRenderer gameRenderer, LightTexture lightTexture, Matrix4f projectionMatrix, CallbackInfo info) {
 		if (this.level != null) {
 			MultiBufferSource.BufferSource bufferSource = this.renderBuffers.bufferSource();
-			for (Entity entity : this.level.entitiesForRendering()) {
-				Vec3 vec3 = camera.getPosition();
-				double d = vec3.x();
-				double e = vec3.y();
-				double f = vec3.z();
+			Frustum frustum = this.capturedFrustum != null ? this.capturedFrustum : this.cullingFrustum;
+			Vec3 vec3 = camera.getPosition();
+			double d = vec3.x();
+			double e = vec3.y();
+			double f = vec3.z();
+			for (SpottingIconManager iconManager : ClientSpottingIcons.collectVisible(this.level, frustum, this.entityRenderDispatcher)) {
+				Entity entity = iconManager.entity;
 				if (entity.tickCount == 0) {
 					entity.xOld = entity.getX();
 					entity.yOld = entity.getY();
@@ -19,27 +19,49 @@
 package net.frozenblock.lib.storage.api;
 
 import java.util.ArrayList;
+import net.frozenblock.lib.storage.impl.BlockEntityTypeInterface;
 import net.minecraft.world.CompoundContainer;
 import net.minecraft.world.Container;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Block entity types that hoppers can neither insert into nor extract from.
+ * <p>
+ * Each listed type is flagged directly once registries freeze, so hoppers don't have to search the list every tick.
+ * Types added with {@link #add(BlockEntityType)} are flagged straight away;
+ * types added to {@link #BLACKLISTED_TYPES} directly are only picked up at the freeze.
+ */
 public class HopperUntouchableList {
 
     public static final ArrayList<BlockEntityType<?>> BLACKLISTED_TYPES = new ArrayList<>();
 
-    public static boolean inventoryContainsBlacklisted(Container inventory) {
+    public static void add(BlockEntityType<?> type) {
+        if (!BLACKLISTED_TYPES.contains(type)) {
+            BLACKLISTED_TYPES.add(type);
+        }
+        ((BlockEntityTypeInterface) type).frozenLib$setHopperUntouchable(true);
+    }
+
+    @ApiStatus.Internal
+    public static void freeze() {
+        for (BlockEntityType<?> type : BLACKLISTED_TYPES) {
+            ((BlockEntityTypeInterface) type).frozenLib$setHopperUntouchable(true);
+        }
+    }
+
+    public static boolean isBlacklisted(BlockEntityType<?> type) {
+        return ((BlockEntityTypeInterface) type).frozenLib$isHopperUntouchable();
+    }
+
+    public static boolean inventoryContainsBlacklisted(@Nullable Container inventory) {
         if (inventory instanceof BlockEntity block) {
-			return BLACKLISTED_TYPES.contains(block.getType());
+            return isBlacklisted(block.getType());
         } else if (inventory instanceof CompoundContainer doubleInventory) {
-            if (doubleInventory.container1 instanceof BlockEntity block) {
-                if (BLACKLISTED_TYPES.contains(block.getType())) {
-                    return true;
-                }
-            }
-            if (doubleInventory.container2 instanceof BlockEntity block) {
-				return BLACKLISTED_TYPES.contains(block.getType());
-            }
+            return (doubleInventory.container1 instanceof BlockEntity block1 && isBlacklisted(block1.getType()))
+                    || (doubleInventory.container2 instanceof BlockEntity block2 && isBlacklisted(block2.getType()));
         }
         return false;
     }
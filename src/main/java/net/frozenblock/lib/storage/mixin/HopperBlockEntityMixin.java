@@ -25,39 +25,26 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.Hopper;
 import net.minecraft.world.level.block.entity.HopperBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 
 @Mixin(HopperBlockEntity.class)
 public class HopperBlockEntityMixin {
 
-    @Inject(at = @At("HEAD"), method = "ejectItems", cancellable = true)
-    private static void preventEjection(Level world, BlockPos pos, BlockState state, Container inventory, CallbackInfoReturnable<Boolean> info) {
-        if (HopperUntouchableList.inventoryContainsBlacklisted(getAttachedContainer(world, pos, state))) {
+    @Inject(method = "ejectItems", at = @At(value = "INVOKE_ASSIGN", target = "Lnet/minecraft/world/level/block/entity/HopperBlockEntity;getAttachedContainer(Lnet/minecraft/world/level/Level;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/state/BlockState;)Lnet/minecraft/world/Container;"), locals = LocalCapture.CAPTURE_FAILEXCEPTION, cancellable = true)
+    private static void preventEjection(Level world, BlockPos pos, BlockState state, Container inventory, CallbackInfoReturnable<Boolean> info, Container attachedContainer) {
+        if (HopperUntouchableList.inventoryContainsBlacklisted(attachedContainer)) {
             info.setReturnValue(false);
         }
     }
 
-    @Inject(at = @At("HEAD"), method = "suckInItems", cancellable = true)
-    private static void preventInsertion(Level world, Hopper hopper, CallbackInfoReturnable<Boolean> info) {
-        if (HopperUntouchableList.inventoryContainsBlacklisted(getSourceContainer(world, hopper))) {
+    @Inject(method = "suckInItems", at = @At(value = "INVOKE_ASSIGN", target = "Lnet/minecraft/world/level/block/entity/HopperBlockEntity;getSourceContainer(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/level/block/entity/Hopper;)Lnet/minecraft/world/Container;"), locals = LocalCapture.CAPTURE_FAILEXCEPTION, cancellable = true)
+    private static void preventInsertion(Level world, Hopper hopper, CallbackInfoReturnable<Boolean> info, Container sourceContainer) {
+        if (HopperUntouchableList.inventoryContainsBlacklisted(sourceContainer)) {
             info.setReturnValue(false);
         }
     }
-
-    @Nullable
-    @Shadow
-    private static Container getAttachedContainer(Level world, BlockPos pos, BlockState state) {
-        throw new AssertionError("Mixin injection failed. - FrozenLib HopperBlockEntityMixin");
-    }
-
-    @Nullable
-    @Shadow
-    private static Container getSourceContainer(Level world, Hopper hopper) {
-        throw new AssertionError("Mixin injection failed. - FrozenLib HopperBlockEntityMixin");
-    }
 }
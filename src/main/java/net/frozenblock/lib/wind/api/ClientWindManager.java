@@ -18,16 +18,17 @@
 
 package net.frozenblock.lib.wind.api;
 
+import com.mojang.math.Vector3d;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.config.frozenlib_config.getter.FrozenLibConfigValues;
 import net.frozenblock.lib.math.api.AdvancedMath;
+import net.frozenblock.lib.wind.impl.WindSampleTable;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.LevelReader;
-import net.minecraft.world.level.LightLayer;
 import net.minecraft.world.level.levelgen.LegacyRandomSource;
 import net.minecraft.world.level.levelgen.SingleThreadedRandomSource;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
@@ -97,7 +98,7 @@ public class ClientWindManager {
 		cloudY += (laggedWindY * 0.01);
 		cloudZ += (laggedWindZ * 0.025);
 
-		if (!hasInitialized && time > 80 && FrozenLibConfigValues.CONFIG.getter().useWindOnNonFrozenServers()) {
+		if (!hasInitialized && time > 80 && FrozenLibConfigValues.SNAPSHOT.get().useWindOnNonFrozenServers()) {
 			RandomSource randomSource = AdvancedMath.random();
 			setSeed(randomSource.nextLong());
 			time = randomSource.nextLong();
@@ -122,6 +123,7 @@ public class ClientWindManager {
 	public static ImprovedNoise perlinChecked = new ImprovedNoise(new LegacyRandomSource(seed));
 	public static ImprovedNoise perlinLocal = new ImprovedNoise(new SingleThreadedRandomSource(seed));
 	public static ImprovedNoise perlinXoro = new ImprovedNoise(new XoroshiroRandomSource(seed));
+	private static volatile WindSampleTable sampleTable;
 
 	public static void setSeed(long newSeed) {
 		if (newSeed != seed) {
@@ -133,25 +135,35 @@ public class ClientWindManager {
 	}
 
 	public static Vec3 getWindMovement(LevelReader reader, BlockPos pos) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = WindManager.getWindMultiplier(reader, pos);
 		return shouldUseWind() ? new Vec3(windX * windMultiplier, windY * windMultiplier, windZ * windMultiplier) : Vec3.ZERO;
 	}
 
 	public static Vec3 getWindMovement(LevelReader reader, BlockPos pos, double multiplier) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = WindManager.getWindMultiplier(reader, pos);
 		return shouldUseWind() ? new Vec3((windX * windMultiplier) * multiplier, (windY * windMultiplier) * multiplier, (windZ * windMultiplier) * multiplier) : Vec3.ZERO;
 	}
 
 	public static Vec3 getWindMovement(LevelReader reader, BlockPos pos, double multiplier, double clamp) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = WindManager.getWindMultiplier(reader, pos);
 		return shouldUseWind() ? new Vec3(Mth.clamp((windX * windMultiplier) * multiplier, -clamp, clamp),
 				Mth.clamp((windY * windMultiplier) * multiplier, -clamp, clamp),
 				Mth.clamp((windZ * windMultiplier) * multiplier, -clamp, clamp)) : Vec3.ZERO;
 	}
 
+	/**
+	 * Writes the wind at the specified position into the output, without allocating.
+	 *
+	 * @return the output.
+	 */
+	public static Vector3d getWindMovement(LevelReader reader, BlockPos pos, Vector3d output) {
+		double windMultiplier = shouldUseWind() ? WindManager.getWindMultiplier(reader, pos) : 0D;
+		output.x = windX * windMultiplier;
+		output.y = windY * windMultiplier;
+		output.z = windZ * windMultiplier;
+		return output;
+	}
+
 	public static double getWindX(float partialTick) {
 		return Mth.lerp(partialTick, prevWindX, windX);
 	}
@@ -177,55 +189,81 @@ public class ClientWindManager {
 	}
 
 	public static boolean shouldUseWind() {
-		return hasInitialized || FrozenLibConfigValues.CONFIG.getter().useWindOnNonFrozenServers();
+		return hasInitialized || FrozenLibConfigValues.SNAPSHOT.get().useWindOnNonFrozenServers();
 	}
 
 	public Vec3 getWindMovement3D(LevelReader reader, BlockPos pos, double stretch) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
-		Vec3 wind = this.sample3D(Vec3.atCenterOf(pos), stretch);
+		double windMultiplier = WindManager.getWindMultiplier(reader, pos);
+		Vec3 wind = sample3D(Vec3.atCenterOf(pos), stretch);
 		return new Vec3(wind.x() * windMultiplier, wind.y() * windMultiplier, wind.z() * windMultiplier);
 	}
 
 	public Vec3 getWindMovement3D(LevelReader reader, BlockPos pos, double multiplier, double stretch) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
-		Vec3 wind = this.sample3D(Vec3.atCenterOf(pos), stretch);
+		double windMultiplier = WindManager.getWindMultiplier(reader, pos);
+		Vec3 wind = sample3D(Vec3.atCenterOf(pos), stretch);
 		return new Vec3((wind.x() * windMultiplier) * multiplier, (wind.y() * windMultiplier) * multiplier, (wind.z() * windMultiplier) * multiplier);
 	}
 
 	public Vec3 getWindMovement3D(LevelReader reader, BlockPos pos, double multiplier, double clamp, double stretch) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
-		Vec3 wind = this.sample3D(Vec3.atCenterOf(pos), stretch);
+		double windMultiplier = WindManager.getWindMultiplier(reader, pos);
+		Vec3 wind = sample3D(Vec3.atCenterOf(pos), stretch);
 		return new Vec3(Mth.clamp((wind.x() * windMultiplier) * multiplier, -clamp, clamp),
 				Mth.clamp((wind.y() * windMultiplier) * multiplier, -clamp, clamp),
 				Mth.clamp((wind.z() * windMultiplier) * multiplier, -clamp, clamp));
 	}
 
+	/**
+	 * Writes the 3D wind at the specified position into the output, without allocating.
+	 *
+	 * @return the output.
+	 */
+	public static Vector3d getWindMovement3D(LevelReader reader, BlockPos pos, double stretch, Vector3d output) {
+		double windMultiplier = WindManager.getWindMultiplier(reader, pos);
+		sample3D(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D, stretch, output);
+		output.x *= windMultiplier;
+		output.y *= windMultiplier;
+		output.z *= windMultiplier;
+		return output;
+	}
+
 	public Vec3 getWindMovement3D(Vec3 pos, double stretch) {
-		Vec3 wind = this.sample3D(pos, stretch);
+		Vec3 wind = sample3D(pos, stretch);
 		return new Vec3(wind.x(), wind.y(), wind.z());
 	}
 
 	public Vec3 getWindMovement3D(Vec3 pos, double multiplier, double stretch) {
-		Vec3 wind = this.sample3D(pos, stretch);
+		Vec3 wind = sample3D(pos, stretch);
 		return new Vec3((wind.x()) * multiplier, (wind.y()) * multiplier, (wind.z()) * multiplier);
 	}
 
 	public Vec3 getWindMovement3D(Vec3 pos, double multiplier, double clamp, double stretch) {
-		Vec3 wind = this.sample3D(pos, stretch);
+		Vec3 wind = sample3D(pos, stretch);
 		return new Vec3(Mth.clamp((wind.x()) * multiplier, -clamp, clamp),
 				Mth.clamp((wind.y()) * multiplier, -clamp, clamp),
 				Mth.clamp((wind.z()) * multiplier, -clamp, clamp));
 	}
 
 	public Vec3 sample3D(Vec3 pos, double stretch) {
+		Vector3d wind = sample3D(pos.x(), pos.y(), pos.z(), stretch, new Vector3d(0, 0, 0));
+		return new Vec3(wind.x, wind.y, wind.z);
+	}
+
+	/**
+	 * Writes the 3D wind at the specified position into the output, without allocating.
+	 *
+	 * @return the output.
+	 */
+	public static Vector3d sample3D(double x, double y, double z, double stretch, Vector3d output) {
 		double sampledTime = time * 0.1;
-		double xyz = pos.x() + pos.y() + pos.z();
-		double windX = this.perlinXoro.noise((xyz + sampledTime) * stretch, 0, 0);
-		double windY = this.perlinXoro.noise(0, (xyz + sampledTime) * stretch, 0);
-		double windZ = this.perlinXoro.noise(0, 0, (xyz + sampledTime) * stretch);
-		return new Vec3(windX, windY, windZ);
+		return getSampleTable().sample((x + y + z + sampledTime) * stretch, output);
+	}
+
+	private static WindSampleTable getSampleTable() {
+		WindSampleTable table = sampleTable;
+		if (table == null || table.getNoise() != perlinXoro) {
+			table = new WindSampleTable(perlinXoro);
+			sampleTable = table;
+		}
+		return table;
 	}
 }
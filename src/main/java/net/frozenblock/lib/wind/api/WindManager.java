@@ -18,15 +18,19 @@
 
 package net.frozenblock.lib.wind.api;
 
+import com.mojang.math.Vector3d;
 import io.netty.buffer.Unpooled;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.lib.FrozenMain;
 import net.frozenblock.lib.wind.impl.WindManagerInterface;
+import net.frozenblock.lib.wind.impl.WindSampleTable;
 import net.frozenblock.lib.wind.impl.WindStorage;
+import net.frozenblock.lib.wind.impl.WindSync;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
@@ -37,6 +41,7 @@ import net.minecraft.world.level.levelgen.SingleThreadedRandomSource;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
 import net.minecraft.world.level.levelgen.synth.ImprovedNoise;
 import net.minecraft.world.phys.Vec3;
+import java.util.Collection;
 
 public class WindManager {
 	private static final long MIN_TIME_VALUE = Long.MIN_VALUE + 1;
@@ -57,6 +62,12 @@ public class WindManager {
 
 	private final ServerLevel level;
 
+	// what clients in this level were last sent, with the time advanced every tick as they predict it
+	private long syncedTime;
+	private long syncedSeed;
+	private boolean syncedOverrideWind;
+	private Vec3 syncedCommandWind = Vec3.ZERO;
+
 	public WindManager(ServerLevel level) {
 		this.level = level;
 		this.setSeed(level.getRandom().nextLong());
@@ -66,6 +77,7 @@ public class WindManager {
 		this.runResetsIfNeeded();
 
 		this.time += 1;
+		this.syncedTime += 1;
 		//WIND
 		float thunderLevel = this.level.getThunderLevel(1F) * 0.03F;
 		double calcTime = this.time * 0.0005;
@@ -86,9 +98,7 @@ public class WindManager {
 		this.cloudY += (this.laggedWindY * 0.01);
 		this.cloudZ += (this.laggedWindZ * 0.025);
 		//SYNC WITH CLIENTS IN CASE OF DESYNC
-		if (this.time % 20 == 0) {
-			this.sendSync(this.level);
-		}
+		this.sendSyncIfNeeded();
 	}
 
 	//Reset values in case of potential overflow
@@ -140,24 +150,82 @@ public class WindManager {
 		return needsReset;
 	}
 
+	/**
+	 * Sends clients whatever they can't predict on their own, or a drift check every {@link WindSync#DRIFT_CHECK_INTERVAL} ticks.
+	 */
+	private void sendSyncIfNeeded() {
+		int flags = 0;
+		// the time was changed by something other than ticking
+		if (this.time != this.syncedTime) {
+			flags |= WindSync.TIME | WindSync.CLOUDS;
+		}
+		if (this.seed != this.syncedSeed) {
+			flags |= WindSync.SEED;
+		}
+		if (this.overrideWind != this.syncedOverrideWind || !this.commandWind.equals(this.syncedCommandWind)) {
+			flags |= WindSync.OVERRIDE;
+		}
+		if (flags == 0 && this.time % WindSync.DRIFT_CHECK_INTERVAL == 0) {
+			flags = WindSync.TIME | WindSync.CLOUDS | WindSync.DRIFT_CHECK;
+		}
+		if (flags != 0) {
+			this.sendSync(flags);
+		}
+	}
+
 	public FriendlyByteBuf createSyncByteBuf() {
+		return this.createSyncByteBuf(WindSync.FULL);
+	}
+
+	private FriendlyByteBuf createSyncByteBuf(int flags) {
 		FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-		byteBuf.writeLong(this.time);
-		byteBuf.writeDouble(this.cloudX);
-		byteBuf.writeDouble(this.cloudY);
-		byteBuf.writeDouble(this.cloudZ);
-		byteBuf.writeLong(this.seed);
-		byteBuf.writeBoolean(this.overrideWind);
-		byteBuf.writeDouble(this.commandWind.x());
-		byteBuf.writeDouble(this.commandWind.y());
-		byteBuf.writeDouble(this.commandWind.z());
+		byteBuf.writeByte(flags);
+		if ((flags & WindSync.TIME) != 0) {
+			byteBuf.writeVarLong(this.time);
+		}
+		if ((flags & WindSync.SEED) != 0) {
+			byteBuf.writeLong(this.seed);
+		}
+		if ((flags & WindSync.OVERRIDE) != 0) {
+			byteBuf.writeBoolean(this.overrideWind);
+			if (this.overrideWind) {
+				byteBuf.writeDouble(this.commandWind.x());
+				byteBuf.writeDouble(this.commandWind.y());
+				byteBuf.writeDouble(this.commandWind.z());
+			}
+		}
+		if ((flags & WindSync.CLOUDS) != 0) {
+			byteBuf.writeDouble(this.cloudX);
+			byteBuf.writeDouble(this.cloudY);
+			byteBuf.writeDouble(this.cloudZ);
+		}
 		return byteBuf;
 	}
 
 	public void sendSync(ServerLevel level) {
-		FriendlyByteBuf byteBuf = this.createSyncByteBuf();
-		for (ServerPlayer player : PlayerLookup.world(level)) {
-			this.sendSyncToPlayer(byteBuf, player);
+		this.sendSync(WindSync.FULL);
+	}
+
+	private void sendSync(int flags) {
+		if ((flags & WindSync.TIME) != 0) {
+			this.syncedTime = this.time;
+		}
+		if ((flags & WindSync.SEED) != 0) {
+			this.syncedSeed = this.seed;
+		}
+		if ((flags & WindSync.OVERRIDE) != 0) {
+			this.syncedOverrideWind = this.overrideWind;
+			this.syncedCommandWind = this.commandWind;
+		}
+
+		Collection<ServerPlayer> players = PlayerLookup.world(this.level);
+		if (players.isEmpty()) {
+			return;
+		}
+		// encoded once and shared by every player in the level
+		Packet<?> packet = ServerPlayNetworking.createS2CPacket(FrozenMain.WIND_SYNC_PACKET, this.createSyncByteBuf(flags));
+		for (ServerPlayer player : players) {
+			player.connection.send(packet);
 		}
 	}
 
@@ -178,6 +246,7 @@ public class WindManager {
 	public ImprovedNoise perlinChecked = new ImprovedNoise(new LegacyRandomSource(this.seed));
 	public ImprovedNoise perlinLocal = new ImprovedNoise(new SingleThreadedRandomSource(this.seed));
 	public ImprovedNoise perlinXoro = new ImprovedNoise(new XoroshiroRandomSource(this.seed));
+	private WindSampleTable sampleTable;
 
 	public void setSeed(long newSeed) {
 		if (newSeed != this.seed) {
@@ -189,25 +258,43 @@ public class WindManager {
 	}
 
 	public Vec3 getWindMovement(LevelReader reader, BlockPos pos) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = getWindMultiplier(reader, pos);
 		return new Vec3(this.windX * windMultiplier, this.windY * windMultiplier, this.windZ * windMultiplier);
 	}
 
 	public Vec3 getWindMovement(LevelReader reader, BlockPos pos, double multiplier) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = getWindMultiplier(reader, pos);
 		return new Vec3((this.windX * windMultiplier) * multiplier, (this.windY * windMultiplier) * multiplier, (this.windZ * windMultiplier) * multiplier);
 	}
 
 	public Vec3 getWindMovement(LevelReader reader, BlockPos pos, double multiplier, double clamp) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = getWindMultiplier(reader, pos);
 		return new Vec3(Mth.clamp((this.windX * windMultiplier) * multiplier, -clamp, clamp),
 				Mth.clamp((this.windY * windMultiplier) * multiplier, -clamp, clamp),
 				Mth.clamp((this.windZ * windMultiplier) * multiplier, -clamp, clamp));
 	}
 
+	/**
+	 * Writes the wind at the specified position into the output, without allocating.
+	 *
+	 * @return the output.
+	 */
+	public Vector3d getWindMovement(LevelReader reader, BlockPos pos, Vector3d output) {
+		double windMultiplier = getWindMultiplier(reader, pos);
+		output.x = this.windX * windMultiplier;
+		output.y = this.windY * windMultiplier;
+		output.z = this.windZ * windMultiplier;
+		return output;
+	}
+
+	/**
+	 * @return how strongly wind affects the specified position, based on its sky light.
+	 */
+	public static double getWindMultiplier(LevelReader reader, BlockPos pos) {
+		double brightness = reader.getBrightness(LightLayer.SKY, pos);
+		return Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667;
+	}
+
 	public static WindManager getWindManager(ServerLevel level) {
 		return ((WindManagerInterface)level).frozenLib$getWindManager();
 	}
@@ -221,28 +308,39 @@ public class WindManager {
 	}
 
 	public Vec3 getWindMovement3D(LevelReader reader, BlockPos pos, double stretch) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = getWindMultiplier(reader, pos);
 		Vec3 wind = this.sample3D(Vec3.atCenterOf(pos), stretch);
 		return new Vec3(wind.x() * windMultiplier, wind.y() * windMultiplier, wind.z() * windMultiplier);
 	}
 
 	public Vec3 getWindMovement3D(LevelReader reader, BlockPos pos, double multiplier, double stretch) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = getWindMultiplier(reader, pos);
 		Vec3 wind = this.sample3D(Vec3.atCenterOf(pos), stretch);
 		return new Vec3((wind.x() * windMultiplier) * multiplier, (wind.y() * windMultiplier) * multiplier, (wind.z() * windMultiplier) * multiplier);
 	}
 
 	public Vec3 getWindMovement3D(LevelReader reader, BlockPos pos, double multiplier, double clamp, double stretch) {
-		double brightness = reader.getBrightness(LightLayer.SKY, pos);
-		double windMultiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667);
+		double windMultiplier = getWindMultiplier(reader, pos);
 		Vec3 wind = this.sample3D(Vec3.atCenterOf(pos), stretch);
 		return new Vec3(Mth.clamp((wind.x() * windMultiplier) * multiplier, -clamp, clamp),
 				Mth.clamp((wind.y() * windMultiplier) * multiplier, -clamp, clamp),
 				Mth.clamp((wind.z() * windMultiplier) * multiplier, -clamp, clamp));
 	}
 
+	/**
+	 * Writes the 3D wind at the specified position into the output, without allocating.
+	 *
+	 * @return the output.
+	 */
+	public Vector3d getWindMovement3D(LevelReader reader, BlockPos pos, double stretch, Vector3d output) {
+		double windMultiplier = getWindMultiplier(reader, pos);
+		this.sample3D(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D, stretch, output);
+		output.x *= windMultiplier;
+		output.y *= windMultiplier;
+		output.z *= windMultiplier;
+		return output;
+	}
+
 	public Vec3 getWindMovement3D(Vec3 pos, double stretch) {
 		Vec3 wind = this.sample3D(pos, stretch);
 		return new Vec3(wind.x(), wind.y(), wind.z());
@@ -261,11 +359,26 @@ public class WindManager {
 	}
 
 	public Vec3 sample3D(Vec3 pos, double stretch) {
+		Vector3d wind = this.sample3D(pos.x(), pos.y(), pos.z(), stretch, new Vector3d(0, 0, 0));
+		return new Vec3(wind.x, wind.y, wind.z);
+	}
+
+	/**
+	 * Writes the 3D wind at the specified position into the output, without allocating.
+	 *
+	 * @return the output.
+	 */
+	public Vector3d sample3D(double x, double y, double z, double stretch, Vector3d output) {
 		double sampledTime = time * 0.1;
-		double xyz = pos.x() + pos.y() + pos.z();
-		double windX = this.perlinXoro.noise((xyz + sampledTime) * stretch, 0, 0);
-		double windY = this.perlinXoro.noise(0, (xyz + sampledTime) * stretch, 0);
-		double windZ = this.perlinXoro.noise(0, 0, (xyz + sampledTime) * stretch);
-		return new Vec3(windX, windY, windZ);
+		return getSampleTable().sample((x + y + z + sampledTime) * stretch, output);
+	}
+
+	private WindSampleTable getSampleTable() {
+		WindSampleTable table = this.sampleTable;
+		if (table == null || table.getNoise() != this.perlinXoro) {
+			table = new WindSampleTable(this.perlinXoro);
+			this.sampleTable = table;
+		}
+		return table;
 	}
 }
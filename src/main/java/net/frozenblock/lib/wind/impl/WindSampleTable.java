@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.wind.impl;
+
+import com.mojang.math.Vector3d;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.levelgen.synth.ImprovedNoise;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Precomputed samples of the noise used for 3D wind.
+ * <p>
+ * 3D wind samples the noise along a single coordinate on each axis, and {@link ImprovedNoise} repeats every 256 units,
+ * so one period is stored and queries are linearly interpolated between neighbouring samples.
+ */
+@ApiStatus.Internal
+public final class WindSampleTable {
+	private static final int PERIOD = 256;
+	private static final int SAMPLES_PER_UNIT = 16;
+	private static final int SIZE = PERIOD * SAMPLES_PER_UNIT;
+	/**
+	 * Past this, {@link ImprovedNoise} no longer repeats as its lattice coordinates overflow, so the noise is sampled directly.
+	 */
+	private static final double MAX_TABLE_COORDINATE = 1 << 30;
+
+	private final ImprovedNoise noise;
+	private final double[] x = new double[SIZE + 1];
+	private final double[] y = new double[SIZE + 1];
+	private final double[] z = new double[SIZE + 1];
+
+	public WindSampleTable(ImprovedNoise noise) {
+		this.noise = noise;
+		for (int i = 0; i <= SIZE; i++) {
+			double coordinate = (double) i / SAMPLES_PER_UNIT;
+			this.x[i] = noise.noise(coordinate, 0, 0);
+			this.y[i] = noise.noise(0, coordinate, 0);
+			this.z[i] = noise.noise(0, 0, coordinate);
+		}
+	}
+
+	public ImprovedNoise getNoise() {
+		return this.noise;
+	}
+
+	/**
+	 * Writes the noise at the specified coordinate on each axis into the output.
+	 *
+	 * @return the output.
+	 */
+	public Vector3d sample(double coordinate, Vector3d output) {
+		if (Math.abs(coordinate) >= MAX_TABLE_COORDINATE) {
+			output.x = this.noise.noise(coordinate, 0, 0);
+			output.y = this.noise.noise(0, coordinate, 0);
+			output.z = this.noise.noise(0, 0, coordinate);
+			return output;
+		}
+		double scaled = coordinate * SAMPLES_PER_UNIT;
+		double floor = Math.floor(scaled);
+		double delta = scaled - floor;
+		int index = Math.floorMod((long) floor, SIZE);
+		output.x = Mth.lerp(delta, this.x[index], this.x[index + 1]);
+		output.y = Mth.lerp(delta, this.y[index], this.y[index + 1]);
+		output.z = Mth.lerp(delta, this.z[index], this.z[index + 1]);
+		return output;
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.wind.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * The layout of the wind sync packet.
+ * <p>
+ * Clients run the same noise model as the server, so once they know the seed, time and override they predict the wind themselves.
+ * The packet starts with a byte of flags saying which of those changed, followed by only the flagged values.
+ */
+@ApiStatus.Internal
+public final class WindSync {
+	private WindSync() {
+		throw new UnsupportedOperationException("WindSync contains only static declarations.");
+	}
+
+	/**
+	 * Followed by the time as a VarLong.
+	 */
+	public static final int TIME = 1;
+	/**
+	 * Followed by the seed as a long.
+	 */
+	public static final int SEED = 1 << 1;
+	/**
+	 * Followed by whether wind is overridden, and if so the command wind as three doubles.
+	 */
+	public static final int OVERRIDE = 1 << 2;
+	/**
+	 * Followed by the cloud position as three doubles.
+	 */
+	public static final int CLOUDS = 1 << 3;
+	/**
+	 * Marks the time and clouds as a periodic drift check, which clients only apply if their prediction diverged.
+	 */
+	public static final int DRIFT_CHECK = 1 << 4;
+
+	public static final int FULL = TIME | SEED | OVERRIDE | CLOUDS;
+
+	public static final int DRIFT_CHECK_INTERVAL = 200;
+	public static final long TIME_TOLERANCE = 5L;
+	public static final double CLOUD_TOLERANCE = 0.5D;
+}
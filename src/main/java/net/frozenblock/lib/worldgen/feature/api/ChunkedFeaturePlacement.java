@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.worldgen.feature.api;
+
+import net.frozenblock.lib.worldgen.feature.impl.PendingFeaturePlacements;
+import net.frozenblock.lib.worldgen.feature.mixin.WorldGenRegionAccessor;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.WorldGenLevel;
+
+/**
+ * Splits a feature that covers a large area into one unit of work per chunk.
+ * <p>
+ * Units for chunks the current {@link WorldGenRegion} can write to are placed straight away.
+ * The rest are deferred until the chunk they belong to generates its features, so they are placed inside that chunk's own region.
+ * Each unit works on a {@link FeaturePlacementArea}, which is committed once the unit has finished.
+ */
+public final class ChunkedFeaturePlacement {
+
+	private ChunkedFeaturePlacement() {
+		throw new UnsupportedOperationException("ChunkedFeaturePlacement contains only static declarations.");
+	}
+
+	/**
+	 * Places the area between the specified block coordinates (inclusive) chunk by chunk.
+	 *
+	 * @return whether any unit placed straight away placed something.
+	 */
+	public static boolean place(WorldGenLevel level, int minX, int minZ, int maxX, int maxZ, AreaPlacer placer) {
+		boolean placed = false;
+		for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++) {
+			for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++) {
+				ChunkPos chunkPos = new ChunkPos(chunkX, chunkZ);
+				int unitMinX = Math.max(minX, chunkPos.getMinBlockX());
+				int unitMinZ = Math.max(minZ, chunkPos.getMinBlockZ());
+				int unitMaxX = Math.min(maxX, chunkPos.getMaxBlockX());
+				int unitMaxZ = Math.min(maxZ, chunkPos.getMaxBlockZ());
+				if (canWrite(level, chunkPos)) {
+					placed |= placeUnit(level, chunkPos, unitMinX, unitMinZ, unitMaxX, unitMaxZ, placer);
+				} else {
+					PendingFeaturePlacements.defer(level.getLevel(), chunkPos, unitLevel -> placeUnit(unitLevel, chunkPos, unitMinX, unitMinZ, unitMaxX, unitMaxZ, placer));
+				}
+			}
+		}
+		return placed;
+	}
+
+	private static boolean placeUnit(WorldGenLevel level, ChunkPos chunkPos, int minX, int minZ, int maxX, int maxZ, AreaPlacer placer) {
+		FeaturePlacementArea area = new FeaturePlacementArea(level, chunkPos, minX, minZ, maxX, maxZ);
+		boolean placed = placer.place(area);
+		area.commit();
+		return placed;
+	}
+
+	public static boolean canWrite(WorldGenLevel level, ChunkPos chunkPos) {
+		if (level instanceof WorldGenRegion region) {
+			int writeRadius = ((WorldGenRegionAccessor) region).getWriteRadiusCutoff();
+			ChunkPos center = region.getCenter();
+			return Math.abs(chunkPos.x - center.x) <= writeRadius && Math.abs(chunkPos.z - center.z) <= writeRadius;
+		}
+		return true;
+	}
+
+	@FunctionalInterface
+	public interface AreaPlacer {
+		/**
+		 * Places the part of a feature inside the specified area, which is always inside a single chunk.
+		 * <p>
+		 * This may be called after the feature's own placement has finished, so it should only use the area's level and random.
+		 *
+		 * @return whether anything was placed.
+		 */
+		boolean place(FeaturePlacementArea area);
+	}
+}
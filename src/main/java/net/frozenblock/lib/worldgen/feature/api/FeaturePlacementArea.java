@@ -0,0 +1,300 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.worldgen.feature.api;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+/**
+ * The part of a feature that lies inside a single chunk, as handed out by {@link ChunkedFeaturePlacement}.
+ * <p>
+ * Reads inside the chunk go straight to its sections and heightmaps instead of through the level, and writes are held back
+ * until {@link #commit()}, which places each of them through the level with {@link Block#UPDATE_CLIENTS}.
+ * Reads through this area see its pending writes, reads through {@link #level()} only see them once the area is committed.
+ */
+public final class FeaturePlacementArea {
+
+	private static final Direction[] DIRECTIONS = Direction.values();
+	private static final BlockState VOID_AIR = Blocks.VOID_AIR.defaultBlockState();
+	private static final int UNKNOWN_HEIGHT = Integer.MIN_VALUE;
+
+	private final WorldGenLevel level;
+	private final ChunkAccess chunk;
+	private final LevelChunkSection[] sections;
+	private final int chunkMinX;
+	private final int chunkMinZ;
+	private final int minX;
+	private final int minZ;
+	private final int maxX;
+	private final int maxZ;
+	private final Map<Heightmap.Types, int[]> heights = new EnumMap<>(Heightmap.Types.class);
+	private final Long2ObjectLinkedOpenHashMap<BlockState>[] writes;
+	private final BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+	private int pendingWrites;
+
+	@SuppressWarnings("unchecked")
+	FeaturePlacementArea(WorldGenLevel level, ChunkPos chunkPos, int minX, int minZ, int maxX, int maxZ) {
+		this.level = level;
+		this.chunk = level.getChunk(chunkPos.x, chunkPos.z);
+		this.sections = this.chunk.getSections();
+		this.chunkMinX = chunkPos.getMinBlockX();
+		this.chunkMinZ = chunkPos.getMinBlockZ();
+		this.minX = minX;
+		this.minZ = minZ;
+		this.maxX = maxX;
+		this.maxZ = maxZ;
+		this.writes = new Long2ObjectLinkedOpenHashMap[this.sections.length];
+	}
+
+	public WorldGenLevel level() {
+		return this.level;
+	}
+
+	public RandomSource random() {
+		return this.level.getRandom();
+	}
+
+	public int minX() {
+		return this.minX;
+	}
+
+	public int minZ() {
+		return this.minZ;
+	}
+
+	public int maxX() {
+		return this.maxX;
+	}
+
+	public int maxZ() {
+		return this.maxZ;
+	}
+
+	/**
+	 * @return whether the specified column is inside this area's chunk.
+	 */
+	public boolean isInChunk(int x, int z) {
+		return x >= this.chunkMinX && x < this.chunkMinX + 16 && z >= this.chunkMinZ && z < this.chunkMinZ + 16;
+	}
+
+	/**
+	 * Works the same as {@link WorldGenLevel#getHeight(Heightmap.Types, int, int)}, but reads each column of this chunk only once
+	 * and takes this area's pending writes into account.
+	 */
+	public int getHeight(Heightmap.Types type, int x, int z) {
+		if (!this.isInChunk(x, z)) {
+			return this.level.getHeight(type, x, z);
+		}
+		int[] columns = this.heights.computeIfAbsent(type, key -> {
+			int[] array = new int[256];
+			Arrays.fill(array, UNKNOWN_HEIGHT);
+			return array;
+		});
+		int index = (x & 15) | (z & 15) << 4;
+		int height = columns[index];
+		if (height == UNKNOWN_HEIGHT) {
+			int top = Math.max(this.chunk.getHeight(type, x & 15, z & 15), this.getHighestPendingWrite(x, z));
+			height = this.findHeight(type, x, top, z);
+			columns[index] = height;
+		}
+		return height;
+	}
+
+	/**
+	 * @return the height of the column, found by going down from the specified y until a block matches the heightmap.
+	 */
+	private int findHeight(Heightmap.Types type, int x, int y, int z) {
+		Predicate<BlockState> predicate = type.isOpaque();
+		int minY = this.chunk.getMinBuildHeight();
+		for (; y >= minY; y--) {
+			if (predicate.test(this.getBlockState(x, y, z))) {
+				return y + 1;
+			}
+		}
+		return minY;
+	}
+
+	private int getHighestPendingWrite(int x, int z) {
+		if (this.pendingWrites > 0) {
+			for (int sectionIndex = this.writes.length - 1; sectionIndex >= 0; sectionIndex--) {
+				Long2ObjectLinkedOpenHashMap<BlockState> sectionWrites = this.writes[sectionIndex];
+				if (sectionWrites == null) {
+					continue;
+				}
+				int highest = Integer.MIN_VALUE;
+				for (long pos : sectionWrites.keySet()) {
+					if (BlockPos.getX(pos) == x && BlockPos.getZ(pos) == z) {
+						highest = Math.max(highest, BlockPos.getY(pos));
+					}
+				}
+				if (highest != Integer.MIN_VALUE) {
+					return highest;
+				}
+			}
+		}
+		return Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Keeps the cached heights of the column in line with a block queued at the specified position.
+	 */
+	private void updateHeights(int x, int y, int z, BlockState state) {
+		int index = (x & 15) | (z & 15) << 4;
+		for (Map.Entry<Heightmap.Types, int[]> entry : this.heights.entrySet()) {
+			int[] columns = entry.getValue();
+			int height = columns[index];
+			if (height == UNKNOWN_HEIGHT) {
+				continue;
+			}
+			Heightmap.Types type = entry.getKey();
+			if (type.isOpaque().test(state)) {
+				if (y >= height) {
+					columns[index] = y + 1;
+				}
+			} else if (y == height - 1) {
+				columns[index] = this.findHeight(type, x, y - 1, z);
+			}
+		}
+	}
+
+	public BlockState getBlockState(BlockPos pos) {
+		return this.getBlockState(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	public BlockState getBlockState(int x, int y, int z) {
+		if (!this.isInChunk(x, z)) {
+			return this.level.getBlockState(this.mutable.set(x, y, z));
+		}
+		if (this.chunk.isOutsideBuildHeight(y)) {
+			return VOID_AIR;
+		}
+		int sectionIndex = this.chunk.getSectionIndex(y);
+		if (this.pendingWrites > 0) {
+			Long2ObjectLinkedOpenHashMap<BlockState> sectionWrites = this.writes[sectionIndex];
+			if (sectionWrites != null) {
+				BlockState pending = sectionWrites.get(BlockPos.asLong(x, y, z));
+				if (pending != null) {
+					return pending;
+				}
+			}
+		}
+		return this.sections[sectionIndex].getBlockState(x & 15, y & 15, z & 15);
+	}
+
+	/**
+	 * @return whether any block next to the specified position matches the predicate.
+	 */
+	public boolean isExposed(BlockPos pos, Predicate<BlockState> predicate) {
+		int x = pos.getX();
+		int y = pos.getY();
+		int z = pos.getZ();
+		for (Direction direction : DIRECTIONS) {
+			if (predicate.test(this.getBlockState(x + direction.getStepX(), y + direction.getStepY(), z + direction.getStepZ()))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean isExposedToAir(BlockPos pos) {
+		return this.isExposed(pos, BlockBehaviour.BlockStateBase::isAir);
+	}
+
+	/**
+	 * @return whether any block in the cube of the specified distance around the position matches the predicate.
+	 */
+	public boolean isNearby(BlockPos pos, int distance, Predicate<BlockState> predicate) {
+		for (int x = pos.getX() - distance; x <= pos.getX() + distance; x++) {
+			for (int z = pos.getZ() - distance; z <= pos.getZ() + distance; z++) {
+				for (int y = pos.getY() - distance; y <= pos.getY() + distance; y++) {
+					if (predicate.test(this.getBlockState(x, y, z))) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Queues a block to be placed when this area is committed.
+	 * <p>
+	 * Blocks outside this area's chunk or build height are placed straight away.
+	 */
+	public void setBlock(BlockPos pos, BlockState state) {
+		int y = pos.getY();
+		if (!this.isInChunk(pos.getX(), pos.getZ()) || this.chunk.isOutsideBuildHeight(y)) {
+			this.level.setBlock(pos, state, Block.UPDATE_CLIENTS);
+			return;
+		}
+		int sectionIndex = this.chunk.getSectionIndex(y);
+		Long2ObjectLinkedOpenHashMap<BlockState> sectionWrites = this.writes[sectionIndex];
+		if (sectionWrites == null) {
+			sectionWrites = new Long2ObjectLinkedOpenHashMap<>();
+			this.writes[sectionIndex] = sectionWrites;
+		}
+		if (sectionWrites.put(pos.asLong(), state) == null) {
+			this.pendingWrites++;
+		}
+		if (!this.heights.isEmpty()) {
+			this.updateHeights(pos.getX(), y, pos.getZ(), state);
+		}
+	}
+
+	/**
+	 * Places every queued block through the level, in the order of the chunk's sections.
+	 *
+	 * @return whether any block was queued.
+	 */
+	public boolean commit() {
+		if (this.pendingWrites == 0) {
+			return false;
+		}
+		for (int sectionIndex = 0; sectionIndex < this.writes.length; sectionIndex++) {
+			Long2ObjectLinkedOpenHashMap<BlockState> sectionWrites = this.writes[sectionIndex];
+			if (sectionWrites == null) {
+				continue;
+			}
+			for (Long2ObjectMap.Entry<BlockState> entry : sectionWrites.long2ObjectEntrySet()) {
+				long pos = entry.getLongKey();
+				this.mutable.set(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos));
+				this.level.setBlock(this.mutable, entry.getValue(), Block.UPDATE_CLIENTS);
+			}
+			this.writes[sectionIndex] = null;
+		}
+		this.pendingWrites = 0;
+		return true;
+	}
+}
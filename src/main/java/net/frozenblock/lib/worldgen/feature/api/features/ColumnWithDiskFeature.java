@@ -20,7 +20,7 @@ package net.frozenblock.lib.worldgen.feature.api.features;
 
 import com.mojang.serialization.Codec;
 import java.util.Optional;
-
+import net.frozenblock.lib.worldgen.feature.api.ChunkedFeaturePlacement;
 import net.frozenblock.lib.worldgen.feature.api.features.config.ColumnWithDiskFeatureConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -51,29 +51,35 @@ public class ColumnWithDiskFeature extends Feature<ColumnWithDiskFeatureConfig>
         Optional<Holder<Block>> diskOptional = config.diskBlocks.getRandomElement(random);
         //DISK
         if (diskOptional.isPresent()) {
-            BlockPos.MutableBlockPos mutableDisk = s.mutable();
             BlockState disk = diskOptional.get().value().defaultBlockState();
             int bx = s.getX();
             int bz = s.getZ();
-            for (int x = bx - radius; x <= bx + radius; x++) {
-                for (int z = bz - radius; z <= bz + radius; z++) {
-                    double distance = ((bx - x) * (bx - x) + ((bz - z) * (bz - z)));
-                    if (distance < radius * radius) {
-                        mutableDisk.set(x, level.getHeight(Types.MOTION_BLOCKING_NO_LEAVES, x, z) - 1, z);
-                        boolean fade = !mutableDisk.closerThan(s, radius * 0.8);
-                        if (level.getBlockState(mutableDisk).is(config.replaceable)) {
-                            generated = true;
-                            if (fade) {
-                                if (random.nextFloat() > 0.65F) {
-                                    level.setBlock(mutableDisk, disk, 3);
-                                }
-                            } else {
-                                level.setBlock(mutableDisk, disk, 3);
-                            }
-                        }
-                    }
-                }
-            }
+			ChunkedFeaturePlacement.AreaPlacer placer = area -> {
+				RandomSource unitRandom = area.random();
+				BlockPos.MutableBlockPos mutableDisk = s.mutable();
+				boolean placed = false;
+				for (int x = area.minX(); x <= area.maxX(); x++) {
+					for (int z = area.minZ(); z <= area.maxZ(); z++) {
+						double distance = ((bx - x) * (bx - x) + ((bz - z) * (bz - z)));
+						if (distance < radius * radius) {
+							mutableDisk.set(x, area.getHeight(Types.MOTION_BLOCKING_NO_LEAVES, x, z) - 1, z);
+							boolean fade = !mutableDisk.closerThan(s, radius * 0.8);
+							if (area.getBlockState(mutableDisk).is(config.replaceable)) {
+								placed = true;
+								if (fade) {
+									if (unitRandom.nextFloat() > 0.65F) {
+										area.setBlock(mutableDisk, disk);
+									}
+								} else {
+									area.setBlock(mutableDisk, disk);
+								}
+							}
+						}
+					}
+				}
+				return placed;
+			};
+			generated = ChunkedFeaturePlacement.place(level, bx - radius, bz - radius, bx + radius, bz + radius, placer);
         }
         //COLUMN / TERMITE MOUND
         BlockPos startPos = blockPos.atY(level.getHeight(Types.MOTION_BLOCKING_NO_LEAVES, blockPos.getX(), blockPos.getZ()) - 1);
@@ -19,19 +19,16 @@
 package net.frozenblock.lib.worldgen.feature.api.features;
 
 import com.mojang.serialization.Codec;
+import net.frozenblock.lib.worldgen.feature.api.ChunkedFeaturePlacement;
 import net.frozenblock.lib.worldgen.feature.api.features.config.FadingDiskCarpetFeatureConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
-import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Consumer;
 
 public class FadingDiskCarpetFeature extends Feature<FadingDiskCarpetFeatureConfig> {
     public FadingDiskCarpetFeature(Codec<FadingDiskCarpetFeatureConfig> codec) {
@@ -39,7 +36,6 @@ public class FadingDiskCarpetFeature extends Feature<FadingDiskCarpetFeatureConf
     }
 
     public boolean place(FeaturePlaceContext<FadingDiskCarpetFeatureConfig> context) {
-		final AtomicBoolean[] bl = {new AtomicBoolean(false)};
         BlockPos blockPos = context.origin();
         WorldGenLevel level = context.level();
 		FadingDiskCarpetFeatureConfig config = context.config();
@@ -49,41 +45,43 @@ public class FadingDiskCarpetFeature extends Feature<FadingDiskCarpetFeatureConf
         RandomSource random = level.getRandom();
         int radius = config.radius.sample(random);
         //DISK
-        BlockPos.MutableBlockPos mutableDisk = s.mutable();
         int bx = s.getX();
 		int by = s.getY();
         int bz = s.getZ();
 
-		Consumer<LevelAccessor> consumer = (levelAccessor) -> {
-			for (int x = bx - radius; x <= bx + radius; x++) {
-				for (int z = bz - radius; z <= bz + radius; z++) {
+		ChunkedFeaturePlacement.AreaPlacer placer = area -> {
+			RandomSource unitRandom = area.random();
+			BlockPos.MutableBlockPos mutableDisk = s.mutable();
+			boolean placed = false;
+			for (int x = area.minX(); x <= area.maxX(); x++) {
+				for (int z = area.minZ(); z <= area.maxZ(); z++) {
 					if (useHeightMapAndNotCircular) {
 						double distance = ((bx - x) * (bx - x) + (bz - z) * (bz - z));
 						if (distance < radius * radius) {
-							mutableDisk.set(x, level.getHeight(heightmap, x, z), z);
-							BlockState state = level.getBlockState(mutableDisk);
+							mutableDisk.set(x, area.getHeight(heightmap, x, z), z);
+							BlockState state = area.getBlockState(mutableDisk);
 							boolean inner = mutableDisk.closerThan(s, radius * config.innerPercent);
 							boolean fade = !inner && !mutableDisk.closerThan(s, radius * config.startFadePercent);
 							boolean choseInner;
-							if (random.nextFloat() < config.placeChance && state.isAir()) {
+							if (unitRandom.nextFloat() < config.placeChance && state.isAir()) {
 								if (fade) {
-									if (random.nextFloat() > 0.5F) {
-										BlockState placedState = config.outerState.getState(random, mutableDisk);
-										if (placedState.canSurvive(level, mutableDisk.move(Direction.DOWN))) {
+									if (unitRandom.nextFloat() > 0.5F) {
+										BlockState placedState = config.outerState.getState(unitRandom, mutableDisk);
+										if (placedState.canSurvive(area.level(), mutableDisk.move(Direction.DOWN))) {
 											mutableDisk.move(Direction.UP);
-											level.setBlock(mutableDisk, config.outerState.getState(random, mutableDisk), 3);
-											bl[0].set(true);
+											area.setBlock(mutableDisk, config.outerState.getState(unitRandom, mutableDisk));
+											placed = true;
 										} else {
 											mutableDisk.move(Direction.UP);
 										}
 									}
 								} else {
-									choseInner = (inner && random.nextFloat() < config.innerChance);
-									BlockState placedState = choseInner ? config.innerState.getState(random, mutableDisk) : config.outerState.getState(random, mutableDisk);
-									if (placedState.canSurvive(level, mutableDisk.move(Direction.DOWN))) {
+									choseInner = (inner && unitRandom.nextFloat() < config.innerChance);
+									BlockState placedState = choseInner ? config.innerState.getState(unitRandom, mutableDisk) : config.outerState.getState(unitRandom, mutableDisk);
+									if (placedState.canSurvive(area.level(), mutableDisk.move(Direction.DOWN))) {
 										mutableDisk.move(Direction.UP);
-										level.setBlock(mutableDisk, placedState, 3);
-										bl[0].set(true);
+										area.setBlock(mutableDisk, placedState);
+										placed = true;
 									} else {
 										mutableDisk.move(Direction.UP);
 									}
@@ -95,29 +93,29 @@ public class FadingDiskCarpetFeature extends Feature<FadingDiskCarpetFeatureConf
 							double distance = ((bx - x) * (bx - x) + (by - y) * (by - y) + (bz - z) * (bz - z));
 							if (distance < radius * radius) {
 								mutableDisk.set(x, y, z);
-								BlockState state = level.getBlockState(mutableDisk);
+								BlockState state = area.getBlockState(mutableDisk);
 								boolean inner = mutableDisk.closerThan(s, radius * config.innerPercent);
 								boolean fade = !inner && !mutableDisk.closerThan(s, radius * config.startFadePercent);
 								boolean choseInner;
-								if (random.nextFloat() < config.placeChance && state.isAir()) {
+								if (unitRandom.nextFloat() < config.placeChance && state.isAir()) {
 									if (fade) {
-										if (random.nextFloat() > 0.5F) {
-											BlockState placedState = config.outerState.getState(random, mutableDisk);
-											if (placedState.canSurvive(level, mutableDisk.move(Direction.DOWN))) {
+										if (unitRandom.nextFloat() > 0.5F) {
+											BlockState placedState = config.outerState.getState(unitRandom, mutableDisk);
+											if (placedState.canSurvive(area.level(), mutableDisk.move(Direction.DOWN))) {
 												mutableDisk.move(Direction.UP);
-												level.setBlock(mutableDisk, config.outerState.getState(random, mutableDisk), 3);
-												bl[0].set(true);
+												area.setBlock(mutableDisk, config.outerState.getState(unitRandom, mutableDisk));
+												placed = true;
 											} else {
 												mutableDisk.move(Direction.UP);
 											}
 										}
 									} else {
-										choseInner = (inner && random.nextFloat() < config.innerChance);
-										BlockState placedState = choseInner ? config.innerState.getState(random, mutableDisk) : config.outerState.getState(random, mutableDisk);
-										if (placedState.canSurvive(level, mutableDisk.move(Direction.DOWN))) {
+										choseInner = (inner && unitRandom.nextFloat() < config.innerChance);
+										BlockState placedState = choseInner ? config.innerState.getState(unitRandom, mutableDisk) : config.outerState.getState(unitRandom, mutableDisk);
+										if (placedState.canSurvive(area.level(), mutableDisk.move(Direction.DOWN))) {
 											mutableDisk.move(Direction.UP);
-											level.setBlock(mutableDisk, placedState, 3);
-											bl[0].set(true);
+											area.setBlock(mutableDisk, placedState);
+											placed = true;
 										} else {
 											mutableDisk.move(Direction.UP);
 										}
@@ -128,14 +126,10 @@ public class FadingDiskCarpetFeature extends Feature<FadingDiskCarpetFeatureConf
 					}
 				}
 			}
+			return placed;
 		};
 
-		if (radius < 15) {
-			consumer.accept(level);
-		} else {
-			ServerLevel serverLevel = level.getLevel();
-			serverLevel.getServer().execute(() -> consumer.accept(serverLevel));
-		}
+		ChunkedFeaturePlacement.place(level, bx - radius, bz - radius, bx + radius, bz + radius, placer);
 
 		return true;
     }
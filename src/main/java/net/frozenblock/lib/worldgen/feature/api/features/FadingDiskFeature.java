@@ -19,20 +19,18 @@
 package net.frozenblock.lib.worldgen.feature.api.features;
 
 import com.mojang.serialization.Codec;
+import net.frozenblock.lib.worldgen.feature.api.ChunkedFeaturePlacement;
+import net.frozenblock.lib.worldgen.feature.api.FeaturePlacementArea;
 import net.frozenblock.lib.worldgen.feature.api.features.config.FadingDiskFeatureConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
-import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.stateproviders.BlockStateProvider;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Consumer;
 
 public class FadingDiskFeature extends Feature<FadingDiskFeatureConfig> {
     public FadingDiskFeature(Codec<FadingDiskFeatureConfig> codec) {
@@ -41,7 +39,6 @@ public class FadingDiskFeature extends Feature<FadingDiskFeatureConfig> {
 
 	@Override
     public boolean place(FeaturePlaceContext<FadingDiskFeatureConfig> context) {
-		AtomicBoolean success = new AtomicBoolean();
         BlockPos blockPos = context.origin();
         WorldGenLevel level = context.level();
 		FadingDiskFeatureConfig config = context.config();
@@ -51,55 +48,51 @@ public class FadingDiskFeature extends Feature<FadingDiskFeatureConfig> {
         RandomSource random = level.getRandom();
         int radius = config.radius.sample(random);
         //DISK
-        BlockPos.MutableBlockPos mutableDisk = s.mutable();
         int bx = s.getX();
 		int by = s.getY();
         int bz = s.getZ();
-		Consumer<LevelAccessor> consumer = levelAccessor -> {
-			for (int x = bx - radius; x <= bx + radius; x++) {
-				for (int z = bz - radius; z <= bz + radius; z++) {
+		ChunkedFeaturePlacement.AreaPlacer placer = area -> {
+			RandomSource unitRandom = area.random();
+			BlockPos.MutableBlockPos mutableDisk = s.mutable();
+			boolean placed = false;
+			for (int x = area.minX(); x <= area.maxX(); x++) {
+				for (int z = area.minZ(); z <= area.maxZ(); z++) {
 					if (useHeightMapAndNotCircular) {
 						double distance = Math.pow((double) bx - x, 2) + Math.pow((double) bz - z, 2);
-						success.set(placeAtPos(level, config, s, random, radius, mutableDisk, x, level.getHeight(heightmap, x, z) - 1, z, distance, true));
+						placed |= placeAtPos(area, config, s, unitRandom, radius, mutableDisk, x, area.getHeight(heightmap, x, z) - 1, z, distance, true);
 					} else {
 						int maxY = by + radius;
 						for (int y = by - radius; y <= maxY; y++) {
 							double distance = Math.pow((double) bx - x, 2) + Math.pow((double) by - y, 2) + Math.pow((double) bz - z, 2);
-							success.set(placeAtPos(level, config, s, random, radius, mutableDisk, x, y, z, distance, false));
+							placed |= placeAtPos(area, config, s, unitRandom, radius, mutableDisk, x, y, z, distance, false);
 						}
 					}
 				}
 			}
+			return placed;
 		};
 
-		if (radius < 15) {
-			consumer.accept(level);
-		} else {
-			ServerLevel serverLevel = level.getLevel();
-			serverLevel.getServer().execute(() -> consumer.accept(serverLevel));
-		}
-
-        return success.get();
+		return ChunkedFeaturePlacement.place(level, bx - radius, bz - radius, bx + radius, bz + radius, placer);
     }
 
-	private static boolean placeAtPos(WorldGenLevel level, FadingDiskFeatureConfig config, BlockPos s, RandomSource random, int radius, BlockPos.MutableBlockPos mutableDisk, int x, int y, int z, double distance, boolean useHeightMapAndNotCircular) {
+	private static boolean placeAtPos(FeaturePlacementArea area, FadingDiskFeatureConfig config, BlockPos s, RandomSource random, int radius, BlockPos.MutableBlockPos mutableDisk, int x, int y, int z, double distance, boolean useHeightMapAndNotCircular) {
 		if (distance < Math.pow(radius, 2)) {
 			mutableDisk.set(x, y, z);
-			BlockState state = level.getBlockState(mutableDisk);
-			if (!useHeightMapAndNotCircular && isBlockExposedToAir(level, mutableDisk)) {
+			BlockState state = area.getBlockState(mutableDisk);
+			if (!useHeightMapAndNotCircular && area.isExposedToAir(mutableDisk)) {
 				boolean inner = mutableDisk.closerThan(s, radius * config.innerPercent);
 				boolean fade = !inner && !mutableDisk.closerThan(s, radius * config.startFadePercent);
 				if (random.nextFloat() < config.placeChance) {
 					if (fade) {
 						if (random.nextFloat() > 0.5F && state.is(config.outerReplaceable)) {
-							level.setBlock(mutableDisk, config.outerState.getState(random, mutableDisk), 3);
+							area.setBlock(mutableDisk, config.outerState.getState(random, mutableDisk));
 							return true;
 						}
 					} else {
 						boolean choseInner = inner && random.nextFloat() < config.innerChance;
 						if (state.is(choseInner ? config.innerReplaceable : config.outerReplaceable)) {
 							BlockStateProvider newState = choseInner ? config.innerState : config.outerState;
-							level.setBlock(mutableDisk, newState.getState(random, mutableDisk), 3);
+							area.setBlock(mutableDisk, newState.getState(random, mutableDisk));
 							return true;
 						}
 					}
@@ -19,16 +19,17 @@
 package net.frozenblock.lib.worldgen.feature.api.features;
 
 import com.mojang.serialization.Codec;
+import java.util.function.Predicate;
 import net.frozenblock.lib.worldgen.feature.api.features.config.PathSwapUnderWaterFeatureConfig;
 import net.frozenblock.lib.math.api.EasyNoiseSampler;
+import net.frozenblock.lib.worldgen.feature.api.ChunkedFeaturePlacement;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.Heightmap.Types;
-import net.minecraft.world.level.levelgen.blockpredicates.BlockPredicate;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.synth.ImprovedNoise;
@@ -39,58 +40,53 @@ public class NoisePathSwapUnderWaterFeature extends Feature<PathSwapUnderWaterFe
     }
 
     public boolean place(FeaturePlaceContext<PathSwapUnderWaterFeatureConfig> context) {
-        boolean generated = false;
 		PathSwapUnderWaterFeatureConfig config = context.config();
         BlockPos blockPos = context.origin();
         WorldGenLevel level = context.level();
         int radiusSquared = config.radius * config.radius;
-        RandomSource random = level.getRandom();
-        ImprovedNoise sampler = config.noise == 1 ? EasyNoiseSampler.perlinLocal : config.noise == 2 ? EasyNoiseSampler.perlinChecked : config.noise == 3 ? EasyNoiseSampler.perlinThreadSafe : EasyNoiseSampler.perlinXoro;
+        ImprovedNoise sampler = EasyNoiseSampler.getSampler(context, EasyNoiseSampler.NoiseType.byId(config.noise));
         int bx = blockPos.getX();
 		int by = blockPos.getY();
         int bz = blockPos.getZ();
-        BlockPos.MutableBlockPos mutable = blockPos.mutable();
-		BlockPredicate predicate = config.onlyExposed ? BlockPredicate.ONLY_IN_AIR_OR_WATER_PREDICATE : BlockPredicate.alwaysTrue();
+		Predicate<BlockState> exposure = config.onlyExposed ? state -> state.is(Blocks.AIR) || state.is(Blocks.WATER) : state -> true;
 
-		for (int x = bx - config.radius; x <= bx + config.radius; x++) {
-			for (int z = bz - config.radius; z <= bz + config.radius; z++) {
-				if (!config.is3D) {
-					double distance = ((bx - x) * (bx - x) + ((bz - z) * (bz - z)));
-					if (distance < radiusSquared) {
-						mutable.set(x, level.getHeight(Types.OCEAN_FLOOR, x, z) - 1, z);
-						double sample = EasyNoiseSampler.sample(level, sampler, mutable, config.multiplier, config.multiplyY, config.useY);
-						if (sample > config.minThresh && sample < config.maxThresh && level.getBlockState(mutable).is(config.replaceable) && checkSurroundingBlocks(level, mutable, predicate)) {
-							generated = true;
-							BlockState setState = level.getFluidState(mutable.immutable().above()).is(FluidTags.WATER) ? config.waterPathBlock.getState(random, mutable) : config.pathBlock.getState(random, mutable);
-							level.setBlock(mutable, setState, 3);
-						}
-					}
-				} else {
-					for (int y = by - config.radius; y <= by + config.radius; y++) {
-						double distance = ((bx - x) * (bx - x) + ((bz - z) * (bz - z)) + ((by - y) * (by - y)));
+		ChunkedFeaturePlacement.AreaPlacer placer = area -> {
+			RandomSource unitRandom = area.random();
+			BlockPos.MutableBlockPos mutable = blockPos.mutable();
+			boolean placed = false;
+			for (int x = area.minX(); x <= area.maxX(); x++) {
+				for (int z = area.minZ(); z <= area.maxZ(); z++) {
+					if (!config.is3D) {
+						double distance = ((bx - x) * (bx - x) + ((bz - z) * (bz - z)));
 						if (distance < radiusSquared) {
-							mutable.set(x, y, z);
-							double sample = EasyNoiseSampler.sample(level, sampler, mutable, config.multiplier, config.multiplyY, config.useY);
-							if (sample > config.minThresh && sample < config.maxThresh && level.getBlockState(mutable).is(config.replaceable) && checkSurroundingBlocks(level, mutable, predicate)) {
-								generated = true;
-								BlockState setState = level.getFluidState(mutable.immutable().above()).is(FluidTags.WATER) ? config.waterPathBlock.getState(random, mutable) : config.pathBlock.getState(random, mutable);
-								level.setBlock(mutable, setState, 3);
+							mutable.set(x, area.getHeight(Types.OCEAN_FLOOR, x, z) - 1, z);
+							double sample = EasyNoiseSampler.sample(sampler, mutable, config.multiplier, config.multiplyY, config.useY);
+							if (sample > config.minThresh && sample < config.maxThresh && area.getBlockState(mutable).is(config.replaceable) && area.isExposed(mutable, exposure)) {
+								placed = true;
+								BlockState setState = area.getBlockState(mutable.getX(), mutable.getY() + 1, mutable.getZ()).getFluidState().is(FluidTags.WATER) ? config.waterPathBlock.getState(unitRandom, mutable) : config.pathBlock.getState(unitRandom, mutable);
+								area.setBlock(mutable, setState);
+							}
+						}
+					} else {
+						for (int y = by - config.radius; y <= by + config.radius; y++) {
+							double distance = ((bx - x) * (bx - x) + ((bz - z) * (bz - z)) + ((by - y) * (by - y)));
+							if (distance < radiusSquared) {
+								mutable.set(x, y, z);
+								double sample = EasyNoiseSampler.sample(sampler, mutable, config.multiplier, config.multiplyY, config.useY);
+								if (sample > config.minThresh && sample < config.maxThresh && area.getBlockState(mutable).is(config.replaceable) && area.isExposed(mutable, exposure)) {
+									placed = true;
+									BlockState setState = area.getBlockState(mutable.getX(), mutable.getY() + 1, mutable.getZ()).getFluidState().is(FluidTags.WATER) ? config.waterPathBlock.getState(unitRandom, mutable) : config.pathBlock.getState(unitRandom, mutable);
+									area.setBlock(mutable, setState);
+								}
 							}
 						}
 					}
 				}
 			}
-		}
-        return generated;
-    }
+			return placed;
+		};
 
-	private static boolean checkSurroundingBlocks(WorldGenLevel level, BlockPos pos, BlockPredicate predicate) {
-		for (Direction direction : Direction.values()) {
-			if (predicate.test(level, pos.relative(direction))) {
-				return true;
-			}
-		}
-		return false;
-	}
+		return ChunkedFeaturePlacement.place(level, bx - config.radius, bz - config.radius, bx + config.radius, bz + config.radius, placer);
+    }
 
 }
@@ -21,6 +21,7 @@ package net.frozenblock.lib.worldgen.feature.api.features;
 import com.mojang.serialization.Codec;
 import net.frozenblock.lib.worldgen.feature.api.features.config.PathFeatureConfig;
 import net.frozenblock.lib.math.api.EasyNoiseSampler;
+import net.frozenblock.lib.worldgen.feature.api.ChunkedFeaturePlacement;
 import net.minecraft.core.BlockPos;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.util.RandomSource;
@@ -36,31 +37,35 @@ public class NoisePlantFeature extends Feature<PathFeatureConfig> {
     }
 
     public boolean place(FeaturePlaceContext<PathFeatureConfig> context) {
-        boolean generated = false;
         PathFeatureConfig config = context.config();
         BlockPos blockPos = context.origin();
         WorldGenLevel level = context.level();
         int radiusSquared = config.radius * config.radius;
-        RandomSource random = level.getRandom();
-        ImprovedNoise sampler = config.noise == 1 ? EasyNoiseSampler.perlinLocal : config.noise == 2 ? EasyNoiseSampler.perlinChecked : config.noise == 3 ? EasyNoiseSampler.perlinThreadSafe : EasyNoiseSampler.perlinXoro;
+        ImprovedNoise sampler = EasyNoiseSampler.getSampler(context, EasyNoiseSampler.NoiseType.byId(config.noise));
         int bx = blockPos.getX();
         int bz = blockPos.getZ();
-        BlockPos.MutableBlockPos mutable = blockPos.mutable();
 
-        for (int x = bx - config.radius; x <= bx + config.radius; x++) {
-            for (int z = bz - config.radius; z <= bz + config.radius; z++) {
-                double distance = ((bx - x) * (bx - x) + ((bz - z) * (bz - z)));
-                if (distance < radiusSquared) {
-                    mutable.set(x, level.getHeight(Types.OCEAN_FLOOR, x, z), z);
-                    double sample = EasyNoiseSampler.sample(level, sampler, mutable, config.multiplier, config.multiplyY, config.useY);
-                    if (sample > config.minThresh && sample < config.maxThresh && level.getBlockState(mutable).is(config.replaceable) && level.getBlockState(mutable.below()).is(BlockTags.DIRT)) {
-                        generated = true;
-                        level.setBlock(mutable, config.pathBlock.getState(random, mutable), 3);
-                    }
-                }
-            }
-        }
-        return generated;
+		ChunkedFeaturePlacement.AreaPlacer placer = area -> {
+			RandomSource unitRandom = area.random();
+			BlockPos.MutableBlockPos mutable = blockPos.mutable();
+			boolean placed = false;
+			for (int x = area.minX(); x <= area.maxX(); x++) {
+				for (int z = area.minZ(); z <= area.maxZ(); z++) {
+					double distance = ((bx - x) * (bx - x) + ((bz - z) * (bz - z)));
+					if (distance < radiusSquared) {
+						mutable.set(x, area.getHeight(Types.OCEAN_FLOOR, x, z), z);
+						double sample = EasyNoiseSampler.sample(sampler, mutable, config.multiplier, config.multiplyY, config.useY);
+						if (sample > config.minThresh && sample < config.maxThresh && area.getBlockState(mutable).is(config.replaceable) && area.getBlockState(x, mutable.getY() - 1, z).is(BlockTags.DIRT)) {
+							placed = true;
+							area.setBlock(mutable, config.pathBlock.getState(unitRandom, mutable));
+						}
+					}
+				}
+			}
+			return placed;
+		};
+
+		return ChunkedFeaturePlacement.place(level, bx - config.radius, bz - config.radius, bx + config.radius, bz + config.radius, placer);
     }
 
 }
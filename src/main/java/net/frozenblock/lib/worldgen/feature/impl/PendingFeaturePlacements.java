@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.worldgen.feature.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Holds the parts of features that are waiting for their chunk to generate.
+ * <p>
+ * Pending parts are only kept in memory, so parts waiting on chunks that aren't generated before the server stops are dropped.
+ * Parts for chunks whose generation state isn't known, as they aren't loaded, are placed on the server thread instead.
+ */
+@ApiStatus.Internal
+public final class PendingFeaturePlacements {
+
+	private static final Map<ResourceKey<Level>, PendingFeaturePlacements> LEVELS = new HashMap<>();
+	private static final int PRUNE_INTERVAL = 20;
+
+	private final Long2ObjectOpenHashMap<List<Consumer<WorldGenLevel>>> pending = new Long2ObjectOpenHashMap<>();
+	/**
+	 * Chunks that have placed their features but haven't been promoted to full chunks yet.
+	 */
+	private final LongOpenHashSet decorated = new LongOpenHashSet();
+	private int ticksUntilPrune = PRUNE_INTERVAL;
+
+	private PendingFeaturePlacements() {
+	}
+
+	private static synchronized PendingFeaturePlacements get(ResourceKey<Level> dimension) {
+		return LEVELS.computeIfAbsent(dimension, key -> new PendingFeaturePlacements());
+	}
+
+	/**
+	 * Defers placing part of a feature until the specified chunk generates its features.
+	 * <p>
+	 * If that chunk has already generated its features, or isn't loaded at all, the part is placed on the server thread instead.
+	 */
+	public static void defer(ServerLevel level, ChunkPos chunkPos, Consumer<WorldGenLevel> placement) {
+		PendingFeaturePlacements placements = get(level.dimension());
+		synchronized (placements) {
+			long pos = chunkPos.toLong();
+			if (!placements.decorated.contains(pos) && getFeatureState(level, pos) == FeatureState.PENDING) {
+				placements.pending.computeIfAbsent(pos, key -> new ArrayList<>()).add(placement);
+				return;
+			}
+		}
+		level.getServer().execute(() -> placement.accept(level));
+	}
+
+	/**
+	 * Places every deferred part for the chunk at the center of the specified region. Called once the chunk has placed its own features.
+	 */
+	public static void onFeaturesPlaced(WorldGenLevel region, ChunkPos chunkPos) {
+		PendingFeaturePlacements placements = get(region.getLevel().dimension());
+		List<Consumer<WorldGenLevel>> chunkPlacements;
+		synchronized (placements) {
+			long pos = chunkPos.toLong();
+			placements.decorated.add(pos);
+			chunkPlacements = placements.pending.remove(pos);
+		}
+		if (chunkPlacements != null) {
+			for (Consumer<WorldGenLevel> placement : chunkPlacements) {
+				placement.accept(region);
+			}
+		}
+	}
+
+	public static void onChunkLoaded(ServerLevel level, ChunkPos chunkPos) {
+		PendingFeaturePlacements placements = get(level.dimension());
+		synchronized (placements) {
+			placements.decorated.remove(chunkPos.toLong());
+		}
+	}
+
+	/**
+	 * Every so often, forgets decorated chunks whose status now shows it,
+	 * and places the parts waiting on chunks that were unloaded before generating their features.
+	 */
+	public static void tick(ServerLevel level) {
+		PendingFeaturePlacements placements = get(level.dimension());
+		List<Consumer<WorldGenLevel>> orphaned = null;
+		synchronized (placements) {
+			if (--placements.ticksUntilPrune > 0 || (placements.decorated.isEmpty() && placements.pending.isEmpty())) {
+				return;
+			}
+			placements.ticksUntilPrune = PRUNE_INTERVAL;
+
+			LongIterator decorated = placements.decorated.iterator();
+			while (decorated.hasNext()) {
+				if (getFeatureState(level, decorated.nextLong()) != FeatureState.PENDING) {
+					decorated.remove();
+				}
+			}
+
+			ObjectIterator<Long2ObjectMap.Entry<List<Consumer<WorldGenLevel>>>> pending = placements.pending.long2ObjectEntrySet().iterator();
+			while (pending.hasNext()) {
+				Long2ObjectMap.Entry<List<Consumer<WorldGenLevel>>> entry = pending.next();
+				if (getFeatureState(level, entry.getLongKey()) == FeatureState.UNKNOWN) {
+					pending.remove();
+					if (orphaned == null) {
+						orphaned = new ArrayList<>();
+					}
+					orphaned.addAll(entry.getValue());
+				}
+			}
+		}
+		if (orphaned != null) {
+			for (Consumer<WorldGenLevel> placement : orphaned) {
+				placement.accept(level);
+			}
+		}
+	}
+
+	public static synchronized void clear() {
+		LEVELS.clear();
+	}
+
+	private static FeatureState getFeatureState(ServerLevel level, long pos) {
+		ChunkHolder holder = level.getChunkSource().chunkMap.getVisibleChunkIfPresent(pos);
+		if (holder == null) {
+			// may have been generated and saved, or never generated at all
+			return FeatureState.UNKNOWN;
+		}
+		ChunkAccess chunk = holder.getLastAvailable();
+		return chunk != null && chunk.getStatus().isOrAfter(ChunkStatus.FEATURES) ? FeatureState.GENERATED : FeatureState.PENDING;
+	}
+
+	private enum FeatureState {
+		PENDING,
+		GENERATED,
+		UNKNOWN
+	}
+}
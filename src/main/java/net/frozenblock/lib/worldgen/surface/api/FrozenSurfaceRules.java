@@ -133,57 +133,45 @@ public final class FrozenSurfaceRules {
 
 	@Nullable
 	public static SurfaceRules.RuleSource getNetherSurfaceRules() {
-		SurfaceRules.RuleSource newSource = null;
 		ArrayList<SurfaceRules.RuleSource> sourceHolders = new ArrayList<>();
 
 		SurfaceRuleEvents.MODIFY_NETHER.invoker().addNetherSurfaceRules(sourceHolders);
 
-		for (SurfaceRules.RuleSource rule : sourceHolders) {
-			if (newSource == null) {
-				newSource = rule;
-			} else {
-				newSource = SurfaceRules.sequence(newSource, rule);
-			}
-		}
-
-		return newSource;
+		return sequenceOrNull(sourceHolders);
 	}
 
 	@Nullable
 	public static SurfaceRules.RuleSource getEndSurfaceRules() {
-		SurfaceRules.RuleSource newSource = null;
 		ArrayList<SurfaceRules.RuleSource> sourceHolders = new ArrayList<>();
 
 		SurfaceRuleEvents.MODIFY_END.invoker().addEndSurfaceRules(sourceHolders);
 
-		for (SurfaceRules.RuleSource rule : sourceHolders) {
-			if (newSource == null) {
-				newSource = rule;
-			} else {
-				newSource = SurfaceRules.sequence(newSource, rule);
-			}
-		}
-
-		return newSource;
+		return sequenceOrNull(sourceHolders);
 	}
 
 	@Nullable
 	public static SurfaceRules.RuleSource getGenericSurfaceRules(ResourceKey<DimensionType> dimension) {
-		SurfaceRules.RuleSource newSource = null;
 		ArrayList<FrozenDimensionBoundRuleSource> sourceHolders = new ArrayList<>();
 
 		SurfaceRuleEvents.MODIFY_GENERIC.invoker().addGenericSurfaceRules(sourceHolders);
 
+		ArrayList<SurfaceRules.RuleSource> dimensionRules = new ArrayList<>();
 		for (FrozenDimensionBoundRuleSource dimRuleSource : sourceHolders) {
 			if (dimRuleSource.dimension().equals(dimension.location())) {
-				if (newSource == null) {
-					newSource = dimRuleSource.ruleSource();
-				} else {
-					newSource = SurfaceRules.sequence(newSource, dimRuleSource.ruleSource());
-				}
+				dimensionRules.add(dimRuleSource.ruleSource());
 			}
 		}
 
-		return newSource;
+		return sequenceOrNull(dimensionRules);
+	}
+
+	/**
+	 * Combines the rules into a single flat sequence, rather than nesting them pair by pair.
+	 */
+	@Nullable
+	private static SurfaceRules.RuleSource sequenceOrNull(List<SurfaceRules.RuleSource> rules) {
+		if (rules.isEmpty()) return null;
+		if (rules.size() == 1) return rules.get(0);
+		return sequence(List.copyOf(rules));
 	}
 }
@@ -19,11 +19,14 @@
 package net.frozenblock.lib.worldgen.surface.impl;
 
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import java.util.BitSet;
+import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.KeyDispatchDataCodec;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.levelgen.SurfaceRules;
+import org.jetbrains.annotations.Nullable;
 
 public final class BiomeTagConditionSource implements SurfaceRules.ConditionSource {
 	public static final KeyDispatchDataCodec<BiomeTagConditionSource> CODEC = KeyDispatchDataCodec.of(RecordCodecBuilder.mapCodec((instance) ->
@@ -51,16 +54,37 @@ public final class BiomeTagConditionSource implements SurfaceRules.ConditionSour
 
 	public SurfaceRules.Condition apply(SurfaceRules.Context context) {
 		class BiomeTagCondition extends SurfaceRules.LazyYCondition {
-			BiomeTagCondition(SurfaceRules.Context context) {
+			@Nullable
+			private final BiomeTagIndex index;
+			private final BitSet biomes;
+			@Nullable
+			private Biome lastBiome;
+			private boolean lastResult;
+
+			BiomeTagCondition(SurfaceRules.Context context, @Nullable BiomeTagIndex index) {
 				super(context);
+				this.index = index;
+				this.biomes = index != null ? index.biomes(BiomeTagConditionSource.this.biomeTagKey) : null;
 			}
 
 			protected boolean compute() {
-				return this.context.biome.get().is(BiomeTagConditionSource.this.biomeTagKey);
+				Holder<Biome> holder = this.context.biome.get();
+				if (this.index == null) {
+					return holder.is(BiomeTagConditionSource.this.biomeTagKey);
+				}
+
+				Biome biome = holder.value();
+				if (biome != this.lastBiome) {
+					int id = this.index.getId(biome);
+					// biomes from outside the indexed registry fall back to the holder's own tags
+					this.lastResult = id >= 0 ? this.biomes.get(id) : holder.is(BiomeTagConditionSource.this.biomeTagKey);
+					this.lastBiome = biome;
+				}
+				return this.lastResult;
 			}
 		}
 
-		return new BiomeTagCondition(context);
+		return new BiomeTagCondition(context, BiomeTagIndex.get());
 	}
 
 	public boolean equals(Object object) {
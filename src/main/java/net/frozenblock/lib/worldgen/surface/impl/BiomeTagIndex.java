@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.worldgen.surface.impl;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds a bitset of matching biome IDs for every biome tag, so {@link BiomeTagConditionSource} can test tags without a holder set lookup.
+ * <p>
+ * Rebuilt whenever the server's tags are bound, and cleared once it stops.
+ */
+@ApiStatus.Internal
+public final class BiomeTagIndex {
+
+	private static final BitSet EMPTY = new BitSet();
+
+	@Nullable
+	private static volatile BiomeTagIndex current;
+
+	private final Registry<Biome> registry;
+	private final Map<TagKey<Biome>, BitSet> tags;
+
+	private BiomeTagIndex(Registry<Biome> registry, Map<TagKey<Biome>, BitSet> tags) {
+		this.registry = registry;
+		this.tags = tags;
+	}
+
+	public static void rebuild(RegistryAccess registryAccess) {
+		Registry<Biome> registry = registryAccess.registryOrThrow(Registry.BIOME_REGISTRY);
+		Map<TagKey<Biome>, BitSet> tags = new HashMap<>();
+		registry.getTags().forEach(pair -> {
+			BitSet bits = new BitSet(registry.size());
+			for (Holder<Biome> biome : pair.getSecond()) {
+				int id = registry.getId(biome.value());
+				if (id >= 0) {
+					bits.set(id);
+				}
+			}
+			tags.put(pair.getFirst(), bits);
+		});
+		current = new BiomeTagIndex(registry, tags);
+	}
+
+	public static void clear() {
+		current = null;
+	}
+
+	/**
+	 * @return the index for the current server, or {@code null} if tags haven't been bound yet
+	 */
+	@Nullable
+	public static BiomeTagIndex get() {
+		return current;
+	}
+
+	/**
+	 * @return the IDs of all biomes in the tag, empty if the tag doesn't exist
+	 */
+	public BitSet biomes(TagKey<Biome> tag) {
+		return this.tags.getOrDefault(tag, EMPTY);
+	}
+
+	/**
+	 * @return the biome's ID in the indexed registry, or -1 if it isn't part of it
+	 */
+	public int getId(Biome biome) {
+		return this.registry.getId(biome);
+	}
+}
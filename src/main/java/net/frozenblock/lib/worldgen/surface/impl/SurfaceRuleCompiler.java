@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.worldgen.surface.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import net.minecraft.world.level.levelgen.SurfaceRules;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Rewrites a surface rule tree into an equivalent one that's cheaper to evaluate per column.
+ * <p>
+ * Nested sequences are flattened into their parent, rules that already appeared earlier in the same sequence are dropped,
+ * and neighbouring rules testing the same condition are merged so the condition is only checked once.
+ */
+@ApiStatus.Internal
+public final class SurfaceRuleCompiler {
+
+	private SurfaceRuleCompiler() {
+		throw new UnsupportedOperationException("SurfaceRuleCompiler contains only static declarations.");
+	}
+
+	@Nullable
+	public static SurfaceRules.RuleSource compile(@Nullable SurfaceRules.RuleSource rule) {
+		if (rule == null) return null;
+		return compileRule(rule);
+	}
+
+	private static SurfaceRules.RuleSource compileRule(SurfaceRules.RuleSource rule) {
+		if (rule instanceof SurfaceRules.SequenceRuleSource sequence) {
+			List<SurfaceRules.RuleSource> flattened = new ArrayList<>();
+			flatten(sequence.sequence(), flattened, new HashSet<>());
+			List<SurfaceRules.RuleSource> hoisted = hoistConditions(flattened);
+			return hoisted.size() == 1 ? hoisted.get(0) : new SurfaceRules.SequenceRuleSource(List.copyOf(hoisted));
+		}
+		if (rule instanceof SurfaceRules.TestRuleSource test) {
+			SurfaceRules.RuleSource thenRun = compileRule(test.thenRun());
+			return thenRun == test.thenRun() ? test : SurfaceRules.ifTrue(test.ifTrue(), thenRun);
+		}
+		return rule;
+	}
+
+	private static void flatten(List<SurfaceRules.RuleSource> rules, List<SurfaceRules.RuleSource> output, Set<SurfaceRules.RuleSource> seen) {
+		for (SurfaceRules.RuleSource rule : rules) {
+			SurfaceRules.RuleSource compiled = compileRule(rule);
+			if (compiled instanceof SurfaceRules.SequenceRuleSource sequence) {
+				// already flat, as it was just compiled
+				for (SurfaceRules.RuleSource child : sequence.sequence()) {
+					addIfUnseen(child, output, seen);
+				}
+			} else {
+				addIfUnseen(compiled, output, seen);
+			}
+		}
+	}
+
+	private static void addIfUnseen(SurfaceRules.RuleSource rule, List<SurfaceRules.RuleSource> output, Set<SurfaceRules.RuleSource> seen) {
+		// a rule equal to an earlier one in the same sequence can never match when the earlier one didn't
+		if (seen.add(rule)) {
+			output.add(rule);
+		}
+	}
+
+	/**
+	 * Merges runs of neighbouring {@link SurfaceRules.TestRuleSource}s with the same condition into one test over a sequence.
+	 */
+	private static List<SurfaceRules.RuleSource> hoistConditions(List<SurfaceRules.RuleSource> rules) {
+		List<SurfaceRules.RuleSource> output = new ArrayList<>(rules.size());
+		int i = 0;
+		while (i < rules.size()) {
+			SurfaceRules.RuleSource rule = rules.get(i);
+			int end = i + 1;
+			if (rule instanceof SurfaceRules.TestRuleSource test) {
+				while (end < rules.size() && rules.get(end) instanceof SurfaceRules.TestRuleSource next && next.ifTrue().equals(test.ifTrue())) {
+					end++;
+				}
+			}
+
+			if (end - i > 1) {
+				List<SurfaceRules.RuleSource> thenRuns = new ArrayList<>(end - i);
+				for (int j = i; j < end; j++) {
+					thenRuns.add(((SurfaceRules.TestRuleSource) rules.get(j)).thenRun());
+				}
+				SurfaceRules.ConditionSource condition = ((SurfaceRules.TestRuleSource) rule).ifTrue();
+				output.add(SurfaceRules.ifTrue(condition, compileRule(new SurfaceRules.SequenceRuleSource(thenRuns))));
+			} else {
+				output.add(rule);
+			}
+			i = end;
+		}
+		return output;
+	}
+}
@@ -18,19 +18,39 @@
 
 package net.frozenblock.lib.worldgen.surface.impl;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import net.frozenblock.lib.worldgen.surface.api.FrozenSurfaceRules;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
+import net.minecraft.world.level.levelgen.SurfaceRules;
+import org.jetbrains.annotations.Nullable;
 
 public class SurfaceRuleUtil {
 
+    /**
+     * Compiled surface rules for each dimension, kept until the server stops.
+     */
+    private static final Map<ResourceKey<DimensionType>, Optional<SurfaceRules.RuleSource>> COMPILED_RULES = new ConcurrentHashMap<>();
+
     public static void injectSurfaceRules(NoiseGeneratorSettings settings, ResourceKey<DimensionType> dimension) {
         var inter = NoiseGeneratorInterface.class.cast(settings);
 
-        var newRules = FrozenSurfaceRules.getSurfaceRules(dimension);
+        var newRules = getCompiledSurfaceRules(dimension);
         if (newRules != null) {
             inter.overwriteSurfaceRules(newRules);
         }
     }
-}
\ No newline at end of file
+
+    @Nullable
+    public static SurfaceRules.RuleSource getCompiledSurfaceRules(@Nullable ResourceKey<DimensionType> dimension) {
+        if (dimension == null) return null;
+        return COMPILED_RULES.computeIfAbsent(dimension, key -> Optional.ofNullable(SurfaceRuleCompiler.compile(FrozenSurfaceRules.getSurfaceRules(key)))).orElse(null);
+    }
+
+    public static void clearCompiledSurfaceRules() {
+        COMPILED_RULES.clear();
+    }
+}
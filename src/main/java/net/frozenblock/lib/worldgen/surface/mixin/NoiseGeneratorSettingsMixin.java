@@ -21,6 +21,7 @@ package net.frozenblock.lib.worldgen.surface.mixin;
 import com.llamalad7.mixinextras.injector.ModifyReturnValue;
 import net.frozenblock.lib.worldgen.surface.api.FrozenSurfaceRules;
 import net.frozenblock.lib.worldgen.surface.impl.NoiseGeneratorInterface;
+import net.frozenblock.lib.worldgen.surface.impl.SurfaceRuleCompiler;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.BuiltinDimensionTypes;
@@ -41,10 +42,23 @@ public class NoiseGeneratorSettingsMixin implements NoiseGeneratorInterface {
 	@Unique
 	private SurfaceRules.RuleSource frozenLib$frozenSurfaceRules;
 
+	/**
+	 * The compiled combination of FrozenLib's surface rules and the original rules, reused until either changes.
+	 */
+	@Unique
+	private SurfaceRules.RuleSource frozenLib$combinedSurfaceRules;
+
+	@Unique
+	private SurfaceRules.RuleSource frozenLib$combinedOriginal;
+
 	@ModifyReturnValue(method = "surfaceRule", at = @At("RETURN"))
 	private SurfaceRules.RuleSource frozenLib$modifyRules(SurfaceRules.RuleSource original) {
 		if (this.frozenLib$frozenSurfaceRules != null) {
-			return SurfaceRules.sequence(this.frozenLib$frozenSurfaceRules, original);
+			if (this.frozenLib$combinedSurfaceRules == null || this.frozenLib$combinedOriginal != original) {
+				this.frozenLib$combinedOriginal = original;
+				this.frozenLib$combinedSurfaceRules = SurfaceRuleCompiler.compile(SurfaceRules.sequence(this.frozenLib$frozenSurfaceRules, original));
+			}
+			return this.frozenLib$combinedSurfaceRules;
 		}
 
 		return original;
@@ -56,6 +70,7 @@ public class NoiseGeneratorSettingsMixin implements NoiseGeneratorInterface {
 		if (surfaceRule == null || surfaceRule == this.frozenLib$frozenSurfaceRules) return;
 
 		this.frozenLib$frozenSurfaceRules = surfaceRule;
+		this.frozenLib$combinedSurfaceRules = null;
 	}
 
 }
@@ -20,7 +20,7 @@ package net.frozenblock.lib.worldgen.surface.mixin.terrablender;
 
 import com.llamalad7.mixinextras.injector.ModifyReturnValue;
 import net.frozenblock.lib.FrozenMain;
-import net.frozenblock.lib.worldgen.surface.api.FrozenSurfaceRules;
+import net.frozenblock.lib.worldgen.surface.impl.SurfaceRuleUtil;
 import net.minecraft.world.level.dimension.BuiltinDimensionTypes;
 import net.minecraft.world.level.levelgen.SurfaceRules;
 import org.spongepowered.asm.mixin.Mixin;
@@ -32,7 +32,7 @@ public class SurfaceRuleManagerMixin {
 
 	@ModifyReturnValue(method = "getNamespacedRules", at = @At("RETURN"))
 	private static SurfaceRules.RuleSource getDefaultSurfaceRules(SurfaceRules.RuleSource original, SurfaceRuleManager.RuleCategory category, SurfaceRules.RuleSource fallback) {
-		SurfaceRules.RuleSource newRules = FrozenSurfaceRules.getSurfaceRules(
+		SurfaceRules.RuleSource newRules = SurfaceRuleUtil.getCompiledSurfaceRules(
 			category == SurfaceRuleManager.RuleCategory.OVERWORLD
 				? BuiltinDimensionTypes.OVERWORLD
 				: BuiltinDimensionTypes.NETHER
@@ -26,11 +26,16 @@ import net.minecraft.Util;
 import net.minecraft.nbt.CompoundTag;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
+import org.quiltmc.qsl.frozenblock.misc.datafixerupper.impl.ModDataUpgrader;
 import org.quiltmc.qsl.frozenblock.misc.datafixerupper.impl.QuiltDataFixesInternals;
 
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
@@ -142,6 +147,26 @@ public final class QuiltDataFixes {
         return QuiltDataFixesInternals.getModDataVersion(compound, modId);
     }
 
+    /**
+     * Upgrades the mod data of every chunk in a world's region files in the background,
+     * so it doesn't have to be upgraded when each chunk is first loaded.
+     * <p>
+     * The world must not be loaded while it's being upgraded.
+     * Starting a server with the {@code frozenlib.upgradeModData} system property set to {@code true} does this before its world is loaded.
+     *
+     * @param worldDirectory the root directory of the world
+     * @param threads        the number of worker threads to use
+     * @param listener       notified on the worker threads every time a region file has been processed
+     * @return a future completed with the final progress once every region file has been processed
+     */
+    public static @NotNull CompletableFuture<WorldUpgradeProgress> upgradeWorld(@NotNull Path worldDirectory, int threads,
+                                                                                @Nullable Consumer<WorldUpgradeProgress> listener) {
+        requireNonNull(worldDirectory, "worldDirectory cannot be null");
+        checkArgument(threads > 0, "threads must be positive");
+
+        return ModDataUpgrader.upgrade(worldDirectory, threads, listener);
+    }
+
     /**
      * Checks if the data fixer registry is frozen.
      *
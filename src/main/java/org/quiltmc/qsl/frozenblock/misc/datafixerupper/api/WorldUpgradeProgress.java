@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 QuiltMC
+ * Copyright 2023 FrozenBlock
+ * Modified to work on Fabric
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.quiltmc.qsl.frozenblock.misc.datafixerupper.api;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * The progress of a mod data upgrade started with {@link QuiltDataFixes#upgradeWorld}.
+ *
+ * @param totalFiles     the number of region files in the world
+ * @param processedFiles the number of region files that have been processed so far
+ * @param upgradedChunks the number of chunks that had mod data upgraded and were written back
+ * @param failedFiles    the number of region files that couldn't be upgraded and were left untouched
+ */
+public record WorldUpgradeProgress(int totalFiles, int processedFiles, int upgradedChunks, int failedFiles) {
+
+    @Contract(pure = true)
+    public float fraction() {
+        return this.totalFiles == 0 ? 1F : (float) this.processedFiles / this.totalFiles;
+    }
+
+    @Contract(pure = true)
+    public boolean isDone() {
+        return this.processedFiles >= this.totalFiles;
+    }
+}
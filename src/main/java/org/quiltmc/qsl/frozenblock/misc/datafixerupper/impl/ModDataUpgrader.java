@@ -0,0 +1,270 @@
+/*
+ * Copyright 2023 QuiltMC
+ * Copyright 2023 FrozenBlock
+ * Modified to work on Fabric
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.quiltmc.qsl.frozenblock.misc.datafixerupper.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mojang.logging.LogUtils;
+import net.minecraft.SharedConstants;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.util.datafix.DataFixTypes;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.storage.ChunkStorage;
+import net.minecraft.world.level.chunk.storage.RegionFile;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.qsl.frozenblock.misc.datafixerupper.api.WorldUpgradeProgress;
+import org.slf4j.Logger;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Upgrades the mod data of every chunk in a world's region files ahead of time, instead of when each chunk is loaded.
+ * <p>
+ * Each region file and its external chunk files are copied, upgraded and then moved back over the originals,
+ * so an interrupted upgrade leaves the world untouched.
+ * The world must not be loaded while it's being upgraded.
+ */
+@ApiStatus.Internal
+public final class ModDataUpgrader {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /**
+     * Set this system property to {@code true} to upgrade the world's mod data before the server loads it.
+     */
+    public static final String UPGRADE_PROPERTY = "frozenlib.upgradeModData";
+
+    private static final Pattern REGION_FILE = Pattern.compile("^r\\.(-?[0-9]+)\\.(-?[0-9]+)\\.mca$");
+    private static final Pattern EXTERNAL_CHUNK_FILE = Pattern.compile("^c\\.(-?[0-9]+)\\.(-?[0-9]+)\\.mcc$");
+    private static final String REGION_DIRECTORY = "region";
+    private static final int REGION_SIZE = 32;
+    // world/dimensions/<namespace>/<path>/region
+    private static final int MAX_DEPTH = 5;
+
+    private final QuiltDataFixesInternals internals;
+    private final int worldVersion;
+    private final int totalFiles;
+    private final @Nullable Consumer<WorldUpgradeProgress> listener;
+
+    private final AtomicInteger processedFiles = new AtomicInteger();
+    private final AtomicInteger upgradedChunks = new AtomicInteger();
+    private final AtomicInteger failedFiles = new AtomicInteger();
+
+    private ModDataUpgrader(@NotNull QuiltDataFixesInternals internals, int totalFiles,
+                            @Nullable Consumer<WorldUpgradeProgress> listener) {
+        this.internals = internals;
+        this.worldVersion = SharedConstants.getCurrentVersion().getWorldVersion();
+        this.totalFiles = totalFiles;
+        this.listener = listener;
+    }
+
+    /**
+     * Upgrades every region file in the world on a pool of worker threads.
+     *
+     * @param listener notified on the worker threads every time a region file has been processed
+     */
+    public static @NotNull CompletableFuture<WorldUpgradeProgress> upgrade(@NotNull Path worldDirectory, int threads,
+                                                                          @Nullable Consumer<WorldUpgradeProgress> listener) {
+        QuiltDataFixesInternals internals = QuiltDataFixesInternals.get();
+        if (internals instanceof NoOpQuiltDataFixesInternals) {
+            return CompletableFuture.completedFuture(new WorldUpgradeProgress(0, 0, 0, 0));
+        }
+
+        List<Path> regionFiles;
+        try {
+            regionFiles = findRegionFiles(worldDirectory);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        ModDataUpgrader upgrader = new ModDataUpgrader(internals, regionFiles.size(), listener);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads), new ThreadFactoryBuilder()
+                .setNameFormat("FrozenLib Mod Data Upgrader #%d")
+                .setDaemon(true)
+                .build());
+
+        CompletableFuture<?>[] futures = regionFiles.stream()
+                .map(file -> CompletableFuture.runAsync(() -> upgrader.upgradeFile(file), executor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futures)
+                .thenApply(unused -> upgrader.progress())
+                .whenComplete((progress, throwable) -> executor.shutdown());
+    }
+
+    private static List<Path> findRegionFiles(Path worldDirectory) throws IOException {
+        try (Stream<Path> files = Files.walk(worldDirectory, MAX_DEPTH)) {
+            return files.filter(file -> file.getParent() != null
+                            && REGION_DIRECTORY.equals(file.getParent().getFileName().toString())
+                            && REGION_FILE.matcher(file.getFileName().toString()).matches()
+                            && Files.isRegularFile(file))
+                    .toList();
+        }
+    }
+
+    private WorldUpgradeProgress progress() {
+        return new WorldUpgradeProgress(this.totalFiles, this.processedFiles.get(), this.upgradedChunks.get(), this.failedFiles.get());
+    }
+
+    private void upgradeFile(Path file) {
+        Matcher matcher = REGION_FILE.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return;
+        }
+        int chunkX = Integer.parseInt(matcher.group(1)) * REGION_SIZE;
+        int chunkZ = Integer.parseInt(matcher.group(2)) * REGION_SIZE;
+
+        Path temp = null;
+        Path tempExternal = null;
+        try {
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.copy(file, temp, StandardCopyOption.REPLACE_EXISTING);
+
+            // oversized chunks are stored in their own files next to the region file, so those are staged too
+            tempExternal = Files.createTempDirectory(file.getParent(), file.getFileName().toString() + ".external");
+            List<Path> externalFiles = findExternalChunkFiles(file.getParent(), chunkX, chunkZ);
+            for (Path externalFile : externalFiles) {
+                Files.copy(externalFile, tempExternal.resolve(externalFile.getFileName()));
+            }
+
+            int upgraded = 0;
+            try (RegionFile region = new RegionFile(temp, tempExternal, false)) {
+                for (int x = 0; x < REGION_SIZE; x++) {
+                    for (int z = 0; z < REGION_SIZE; z++) {
+                        if (this.upgradeChunk(region, new ChunkPos(chunkX + x, chunkZ + z))) {
+                            upgraded++;
+                        }
+                    }
+                }
+            }
+
+            if (upgraded > 0) {
+                // external chunk files are moved first, so the new region file never references one that isn't there yet;
+                // the old region file still reads the same chunks from them, only with their mod data upgraded
+                try (Stream<Path> staged = Files.list(tempExternal)) {
+                    for (Path externalFile : staged.toList()) {
+                        move(externalFile, file.getParent().resolve(externalFile.getFileName()));
+                    }
+                }
+                move(temp, file);
+                // chunks that fit back into the region file had their external file deleted
+                for (Path externalFile : externalFiles) {
+                    if (!Files.exists(tempExternal.resolve(externalFile.getFileName()))) {
+                        Files.deleteIfExists(externalFile);
+                    }
+                }
+                this.upgradedChunks.addAndGet(upgraded);
+            }
+        } catch (Exception e) {
+            this.failedFiles.incrementAndGet();
+            LOGGER.error("[Quilt DFU API] Failed to upgrade mod data in region file {}", file, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    LOGGER.warn("[Quilt DFU API] Couldn't delete temporary region file {}", temp, e);
+                }
+            }
+            if (tempExternal != null) {
+                deleteDirectory(tempExternal);
+            }
+            this.processedFiles.incrementAndGet();
+            if (this.listener != null) {
+                this.listener.accept(this.progress());
+            }
+        }
+    }
+
+    private static List<Path> findExternalChunkFiles(Path regionDirectory, int chunkX, int chunkZ) throws IOException {
+        try (Stream<Path> files = Files.list(regionDirectory)) {
+            return files.filter(file -> {
+                Matcher matcher = EXTERNAL_CHUNK_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    return false;
+                }
+                int x = Integer.parseInt(matcher.group(1));
+                int z = Integer.parseInt(matcher.group(2));
+                return x >= chunkX && x < chunkX + REGION_SIZE && z >= chunkZ && z < chunkZ + REGION_SIZE;
+            }).toList();
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            LOGGER.warn("[Quilt DFU API] Couldn't delete temporary external chunk directory {}", directory, e);
+        }
+    }
+
+    private boolean upgradeChunk(RegionFile region, ChunkPos pos) throws IOException {
+        CompoundTag compound;
+        try (DataInputStream input = region.getChunkDataInputStream(pos)) {
+            if (input == null) {
+                return false;
+            }
+            compound = NbtIo.read(input);
+        }
+
+        // mod fixers expect the latest vanilla data, so older chunks are left to be upgraded when they're loaded
+        if (ChunkStorage.getVersion(compound) != this.worldVersion) {
+            return false;
+        }
+
+        CompoundTag upgraded = this.internals.updateWithAllFixers(DataFixTypes.CHUNK, compound);
+        // the same tag is returned if every mod was already up to date
+        if (upgraded == compound) {
+            return false;
+        }
+        this.internals.addModDataVersions(upgraded);
+
+        try (DataOutputStream output = region.getChunkDataOutputStream(pos)) {
+            NbtIo.write(upgraded, output);
+        }
+        return true;
+    }
+}
@@ -24,6 +24,7 @@ import com.mojang.serialization.Dynamic;
 import it.unimi.dsi.fastutil.objects.Object2ReferenceOpenHashMap;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
 import net.minecraft.util.datafix.DataFixTypes;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -31,6 +32,7 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Map;
 
 /**
@@ -41,6 +43,10 @@ public final class QuiltDataFixesInternalsImpl extends QuiltDataFixesInternals {
     private final @NotNull Schema latestVanillaSchema;
 
     private Map<String, DataFixerEntry> modDataFixers;
+    /**
+     * The registered fixers sorted by mod ID, so they always run in the same order.
+     */
+    private volatile ModFixer[] sortedFixers = new ModFixer[0];
     private boolean frozen;
 
     public QuiltDataFixesInternalsImpl(@NotNull Schema latestVanillaSchema) {
@@ -58,6 +64,10 @@ public final class QuiltDataFixesInternalsImpl extends QuiltDataFixesInternals {
         }
 
         this.modDataFixers.put(modId, new DataFixerEntry(dataFixer, currentVersion));
+        this.sortedFixers = this.modDataFixers.entrySet().stream()
+                .map(entry -> new ModFixer(entry.getKey(), entry.getKey() + "_DataVersion", entry.getValue()))
+                .sorted(Comparator.comparing(ModFixer::modId))
+                .toArray(ModFixer[]::new);
     }
 
     @Override
@@ -72,25 +82,35 @@ public final class QuiltDataFixesInternalsImpl extends QuiltDataFixesInternals {
 
     @Override
     public @NotNull CompoundTag updateWithAllFixers(@NotNull DataFixTypes dataFixTypes, @NotNull CompoundTag compound) {
-        var current = new Dynamic<>(NbtOps.INSTANCE, compound);
+        // only created once a mod actually needs to be updated
+        Dynamic<Tag> current = null;
 
-        for (Map.Entry<String, DataFixerEntry> entry : this.modDataFixers.entrySet()) {
-            int modDataVersion = getModDataVersion(compound, entry.getKey());
-            DataFixerEntry dataFixerEntry = entry.getValue();
+        for (ModFixer fixer : this.sortedFixers) {
+            int modDataVersion = compound.getInt(fixer.versionKey());
+            DataFixerEntry dataFixerEntry = fixer.entry();
 
+            if (modDataVersion >= dataFixerEntry.currentVersion()) {
+                continue;
+            }
+
+            if (current == null) {
+                current = new Dynamic<>(NbtOps.INSTANCE, compound);
+            }
+
+            // the DataFixer caches the rewrite rule for each (fromVersion, toVersion) pair itself
             current = dataFixerEntry.dataFixer()
                     .update(dataFixTypes.getType(),
                             current,
                             modDataVersion, dataFixerEntry.currentVersion());
         }
 
-        return (CompoundTag) current.getValue();
+        return current == null ? compound : (CompoundTag) current.getValue();
     }
 
     @Override
     public @NotNull CompoundTag addModDataVersions(@NotNull CompoundTag compound) {
-        for (Map.Entry<String, DataFixerEntry> entry : this.modDataFixers.entrySet()) {
-            compound.putInt(entry.getKey() + "_DataVersion", entry.getValue().currentVersion());
+        for (ModFixer fixer : this.sortedFixers) {
+            compound.putInt(fixer.versionKey(), fixer.entry().currentVersion());
         }
 
         return compound;
@@ -110,4 +130,5 @@ public final class QuiltDataFixesInternalsImpl extends QuiltDataFixesInternals {
         return this.frozen;
     }
 
+    private record ModFixer(String modId, String versionKey, DataFixerEntry entry) {}
 }
@@ -20,8 +20,12 @@ package org.quiltmc.qsl.frozenblock.misc.datafixerupper.impl;
 
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.frozenblock.lib.FrozenMain;
+import net.minecraft.world.level.storage.LevelResource;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Modified to work on Fabric
  */
@@ -33,6 +37,24 @@ public final class ServerFreezer {
             FrozenMain.log("[Quilt DFU API] Serverside DataFixer Registry is about to freeze", true);
             QuiltDataFixesInternals.get().freeze();
             FrozenMain.log("[Quilt DFU API] Serverside DataFixer Registry was frozen", true);
+
+            if (Boolean.getBoolean(ModDataUpgrader.UPGRADE_PROPERTY)) {
+                upgradeModData(server.getWorldPath(LevelResource.ROOT));
+            }
         });
     }
+
+    private static void upgradeModData(Path worldDirectory) {
+        FrozenMain.log("[Quilt DFU API] Upgrading mod data in " + worldDirectory, true);
+        AtomicInteger loggedPercent = new AtomicInteger();
+        var result = ModDataUpgrader.upgrade(worldDirectory, Math.max(1, Runtime.getRuntime().availableProcessors() - 1), progress -> {
+            int percent = (int) (progress.fraction() * 10) * 10;
+            int logged = loggedPercent.get();
+            if (percent > logged && loggedPercent.compareAndSet(logged, percent)) {
+                FrozenMain.log("[Quilt DFU API] Upgrading mod data: " + percent + "%", true);
+            }
+        }).join();
+        FrozenMain.log("[Quilt DFU API] Upgraded mod data in " + result.upgradedChunks() + " chunks from " + result.totalFiles()
+                + " region files, " + result.failedFiles() + " failed", true);
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.config;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Codec;
+import net.frozenblock.lib.config.api.entry.TypedEntry;
+import net.frozenblock.lib.config.api.entry.TypedEntryType;
+import net.frozenblock.lib.config.api.instance.json.TypedEntrySerializer;
+import net.frozenblock.lib.config.api.registry.ConfigRegistry;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class TypedEntrySerializerTest {
+
+	private static final String MOD_ID = "frozenlib_typed_entry_test";
+
+	// registered first, so a double list is read back as an int list when its type name isn't used
+	private static TypedEntryType<List<Integer>> INT_LIST;
+	private static TypedEntryType<List<Double>> DOUBLE_LIST;
+	private static TypedEntryType<List<String>> STRING_LIST;
+
+	@BeforeAll
+	public static void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+
+		INT_LIST = ConfigRegistry.register(new TypedEntryType<>(MOD_ID, Codec.INT.listOf(), "int_list"));
+		DOUBLE_LIST = ConfigRegistry.register(new TypedEntryType<>(MOD_ID, Codec.DOUBLE.listOf(), "double_list"));
+		STRING_LIST = ConfigRegistry.register(new TypedEntryType<>(MOD_ID, Codec.STRING.listOf()));
+	}
+
+	@Test
+	void testRoundTrip() {
+		TypedEntrySerializer<List<Double>> serializer = new TypedEntrySerializer<>(MOD_ID);
+		TypedEntry<List<Double>> entry = new TypedEntry<>(DOUBLE_LIST, List.of(1.0, 2.0));
+
+		JsonObject json = serializer.serialize(entry, null, null).getAsJsonObject();
+		Assertions.assertEquals("double_list", json.get(TypedEntrySerializer.TYPE_KEY).getAsString());
+
+		TypedEntry<List<Double>> read = serializer.deserialize(json, null, null);
+		Assertions.assertSame(DOUBLE_LIST, read.type());
+		Assertions.assertEquals(entry.value(), read.value());
+	}
+
+	@Test
+	void testUnnamedTypeIsSavedAsValue() {
+		TypedEntrySerializer<List<String>> serializer = new TypedEntrySerializer<>(MOD_ID);
+		TypedEntry<List<String>> entry = new TypedEntry<>(STRING_LIST, List.of("a", "b"));
+
+		var json = serializer.serialize(entry, null, null);
+		Assertions.assertTrue(json.isJsonArray());
+
+		TypedEntry<List<String>> read = serializer.deserialize(json, null, null);
+		Assertions.assertSame(STRING_LIST, read.type());
+		Assertions.assertEquals(entry.value(), read.value());
+	}
+
+	@Test
+	void testRenamedTypeFallsBackToValue() {
+		TypedEntrySerializer<List<String>> serializer = new TypedEntrySerializer<>(MOD_ID);
+		var json = JsonParser.parseString("{\"type\": \"removed_type\", \"value\": [\"a\", \"b\"]}");
+
+		TypedEntry<List<String>> read = serializer.deserialize(json, null, null);
+		Assertions.assertSame(STRING_LIST, read.type());
+		Assertions.assertEquals(List.of("a", "b"), read.value());
+	}
+
+	@Test
+	void testLegacyIndexFallsBackToValue() {
+		// the index isn't trusted, since it changes whenever types are registered in a different order
+		TypedEntrySerializer<List<String>> serializer = new TypedEntrySerializer<>(MOD_ID);
+		var json = JsonParser.parseString("{\"type\": 0, \"value\": [\"a\", \"b\"]}");
+
+		TypedEntry<List<String>> read = serializer.deserialize(json, null, null);
+		Assertions.assertSame(STRING_LIST, read.type());
+		Assertions.assertEquals(List.of("a", "b"), read.value());
+	}
+
+	@Test
+	void testLegacyBareValue() {
+		TypedEntrySerializer<List<Integer>> serializer = new TypedEntrySerializer<>(MOD_ID);
+		var json = JsonParser.parseString("[1, 2]");
+
+		TypedEntry<List<Integer>> read = serializer.deserialize(json, null, null);
+		Assertions.assertSame(INT_LIST, read.type());
+		Assertions.assertEquals(List.of(1, 2), read.value());
+	}
+
+	@Test
+	void testDuplicateNameIsRejected() {
+		Assertions.assertThrows(IllegalStateException.class, () ->
+			ConfigRegistry.register(new TypedEntryType<>(MOD_ID, Codec.STRING, "int_list"))
+		);
+	}
+}
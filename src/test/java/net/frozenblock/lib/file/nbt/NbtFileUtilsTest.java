@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.file.nbt;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class NbtFileUtilsTest {
+
+	@TempDir
+	Path directory;
+
+	@BeforeAll
+	public static void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+	}
+
+	@Test
+	void testCompressedRoundTrip() throws IOException {
+		Path path = this.directory.resolve("compressed.nbt");
+		CompoundTag tag = createTag(16);
+
+		NbtFileUtils.write(tag, path, true);
+		byte[] bytes = Files.readAllBytes(path);
+		Assertions.assertEquals((byte) 0x1F, bytes[0]);
+		Assertions.assertEquals((byte) 0x8B, bytes[1]);
+
+		Assertions.assertEquals(tag, NbtFileUtils.read(path));
+		Assertions.assertEquals(tag, NbtFileUtils.read(bytes));
+	}
+
+	@Test
+	void testUncompressedRoundTrip() throws IOException {
+		Path path = this.directory.resolve("uncompressed.nbt");
+		CompoundTag tag = createTag(16);
+
+		NbtFileUtils.write(tag, path, false);
+
+		Assertions.assertEquals(tag, NbtFileUtils.read(path));
+		Assertions.assertEquals(tag, NbtFileUtils.read(Files.readAllBytes(path)));
+	}
+
+	@Test
+	void testMappedRoundTrip() throws IOException {
+		Path path = this.directory.resolve("mapped.nbt");
+		CompoundTag tag = createTag((int) NbtFileUtils.MAPPED_READ_THRESHOLD);
+
+		NbtFileUtils.write(tag, path, false);
+		Assertions.assertTrue(Files.size(path) >= NbtFileUtils.MAPPED_READ_THRESHOLD);
+
+		Assertions.assertEquals(tag, NbtFileUtils.read(path));
+	}
+
+	@Test
+	void testMissingAndEmptyFiles() throws IOException {
+		Assertions.assertNull(NbtFileUtils.read(this.directory.resolve("missing.nbt")));
+
+		// too short to hold the compression header, so it's read as an uncompressed tag and fails like one
+		Path empty = Files.createFile(this.directory.resolve("empty.nbt"));
+		Assertions.assertThrows(IOException.class, () -> NbtFileUtils.read(empty));
+	}
+
+	/**
+	 * @return a tag with a few kinds of values and a byte array of the specified size.
+	 */
+	private static CompoundTag createTag(int arraySize) {
+		CompoundTag tag = new CompoundTag();
+		tag.putString("Name", "FrozenLib");
+		tag.putInt("Version", 1);
+		tag.putDouble("Scale", 0.5);
+		tag.putBoolean("Enabled", true);
+		ListTag list = new ListTag();
+		list.add(StringTag.valueOf("first"));
+		list.add(StringTag.valueOf("second"));
+		tag.put("List", list);
+		CompoundTag nested = new CompoundTag();
+		nested.putLong("Seed", 8675309L);
+		tag.put("Nested", nested);
+		byte[] array = new byte[arraySize];
+		for (int i = 0; i < arraySize; i++) {
+			array[i] = (byte) i;
+		}
+		tag.putByteArray("Data", array);
+		return tag;
+	}
+}
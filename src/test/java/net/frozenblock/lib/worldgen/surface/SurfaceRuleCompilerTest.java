@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of FrozenLib.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.lib.worldgen.surface;
+
+import net.frozenblock.lib.worldgen.surface.impl.SurfaceRuleCompiler;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.KeyDispatchDataHolder;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.SurfaceRules;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class SurfaceRuleCompilerTest {
+
+	private static final int FLAG_COUNT = 3;
+
+	/**
+	 * The flags the test conditions read, one bit per condition.
+	 */
+	private static int flags;
+	private static int conditionTests;
+
+	@BeforeAll
+	public static void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+	}
+
+	@Test
+	void testNestedSequences() {
+		SurfaceRules.RuleSource rule = SurfaceRules.sequence(
+			SurfaceRules.ifTrue(flag(0), SurfaceRules.state(Blocks.STONE.defaultBlockState())),
+			SurfaceRules.sequence(
+				SurfaceRules.ifTrue(flag(1), SurfaceRules.state(Blocks.DIRT.defaultBlockState())),
+				SurfaceRules.sequence(
+					SurfaceRules.ifTrue(flag(2), SurfaceRules.state(Blocks.SAND.defaultBlockState()))
+				),
+				SurfaceRules.ifTrue(flag(1), SurfaceRules.ifTrue(flag(2), SurfaceRules.state(Blocks.GRAVEL.defaultBlockState())))
+			),
+			SurfaceRules.state(Blocks.GRASS_BLOCK.defaultBlockState())
+		);
+
+		SurfaceRules.RuleSource compiled = SurfaceRuleCompiler.compile(rule);
+		Assertions.assertInstanceOf(SurfaceRules.SequenceRuleSource.class, compiled);
+		for (SurfaceRules.RuleSource child : ((SurfaceRules.SequenceRuleSource) compiled).sequence()) {
+			Assertions.assertFalse(child instanceof SurfaceRules.SequenceRuleSource);
+		}
+		assertPlacesSameBlocks(rule, compiled);
+	}
+
+	@Test
+	void testDuplicateRules() {
+		SurfaceRules.RuleSource dirt = SurfaceRules.ifTrue(flag(1), SurfaceRules.state(Blocks.DIRT.defaultBlockState()));
+		SurfaceRules.RuleSource rule = SurfaceRules.sequence(
+			SurfaceRules.ifTrue(flag(0), SurfaceRules.state(Blocks.STONE.defaultBlockState())),
+			dirt,
+			SurfaceRules.ifTrue(flag(2), SurfaceRules.state(Blocks.SAND.defaultBlockState())),
+			SurfaceRules.sequence(dirt),
+			SurfaceRules.ifTrue(flag(1), SurfaceRules.state(Blocks.DIRT.defaultBlockState()))
+		);
+
+		SurfaceRules.RuleSource compiled = SurfaceRuleCompiler.compile(rule);
+		Assertions.assertEquals(3, ((SurfaceRules.SequenceRuleSource) compiled).sequence().size());
+		assertPlacesSameBlocks(rule, compiled);
+	}
+
+	@Test
+	void testHoistedConditions() {
+		SurfaceRules.RuleSource rule = SurfaceRules.sequence(
+			SurfaceRules.ifTrue(flag(0), SurfaceRules.ifTrue(flag(1), SurfaceRules.state(Blocks.STONE.defaultBlockState()))),
+			SurfaceRules.ifTrue(flag(0), SurfaceRules.ifTrue(flag(2), SurfaceRules.state(Blocks.DIRT.defaultBlockState()))),
+			SurfaceRules.ifTrue(flag(0), SurfaceRules.state(Blocks.SAND.defaultBlockState())),
+			SurfaceRules.ifTrue(flag(1), SurfaceRules.state(Blocks.GRAVEL.defaultBlockState())),
+			SurfaceRules.ifTrue(flag(0), SurfaceRules.state(Blocks.CLAY.defaultBlockState()))
+		);
+
+		SurfaceRules.RuleSource compiled = SurfaceRuleCompiler.compile(rule);
+		// the first three rules share a condition, the last one is separated from them by another condition
+		Assertions.assertEquals(3, ((SurfaceRules.SequenceRuleSource) compiled).sequence().size());
+		assertPlacesSameBlocks(rule, compiled);
+	}
+
+	private static void assertPlacesSameBlocks(SurfaceRules.RuleSource expected, SurfaceRules.RuleSource actual) {
+		// the test rules don't read the context
+		SurfaceRules.SurfaceRule expectedRule = expected.apply(null);
+		SurfaceRules.SurfaceRule actualRule = actual.apply(null);
+		for (flags = 0; flags < 1 << FLAG_COUNT; flags++) {
+			conditionTests = 0;
+			BlockState expectedState = expectedRule.tryApply(0, 0, 0);
+			int expectedTests = conditionTests;
+
+			conditionTests = 0;
+			BlockState actualState = actualRule.tryApply(0, 0, 0);
+			Assertions.assertSame(expectedState, actualState, "Different block for flags " + Integer.toBinaryString(flags));
+			Assertions.assertTrue(conditionTests <= expectedTests, "More conditions tested for flags " + Integer.toBinaryString(flags));
+		}
+	}
+
+	private static SurfaceRules.ConditionSource flag(int bit) {
+		return new FlagConditionSource(bit);
+	}
+
+	private record FlagConditionSource(int bit) implements SurfaceRules.ConditionSource {
+		@Override
+		public KeyDispatchDataHolder<? extends SurfaceRules.ConditionSource> codec() {
+			throw new UnsupportedOperationException("Test conditions can't be encoded.");
+		}
+
+		@Override
+		public SurfaceRules.Condition apply(SurfaceRules.Context context) {
+			return () -> {
+				conditionTests++;
+				return (flags & 1 << this.bit) != 0;
+			};
+		}
+	}
+}
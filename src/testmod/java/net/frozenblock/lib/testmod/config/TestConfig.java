@@ -40,14 +40,16 @@ public class TestConfig {
 	public static final TypedEntryType<SoundEvent> SOUND_EVENT = ConfigRegistry.register(
 			new TypedEntryType<>(
 					FrozenTestMain.MOD_ID,
-					SoundEvent.CODEC
+					SoundEvent.CODEC,
+					"sound_event"
 			)
 	);
 
 	public static final TypedEntryType<List<Vec3>> VEC3_LIST = ConfigRegistry.register(
 			new TypedEntryType<>(
 					FrozenTestMain.MOD_ID,
-					Codec.list(Vec3.CODEC)
+					Codec.list(Vec3.CODEC),
+					"vec3_list"
 			)
 	);
 